@@ -0,0 +1,40 @@
+package com.rezero.anyotherday.benchmark;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 벤치마크 프로필 설정
+ * S3Config가 만드는 AmazonS3 빈(실제/MinIO)을 모두 인프로세스 S3로 바꿔치기
+ */
+@Configuration
+@Profile("benchmark")
+public class BenchmarkConfig {
+
+    @Bean
+    public InMemoryAmazonS3 inMemoryAmazonS3() {
+        return new InMemoryAmazonS3();
+    }
+
+    @Bean
+    public static BeanPostProcessor inMemoryS3Replacer(ObjectProvider<InMemoryAmazonS3> inMemoryAmazonS3) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof AmazonS3 && !(bean instanceof InMemoryAmazonS3)) {
+                    return inMemoryAmazonS3.getObject();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public CompletionTracker completionTracker() {
+        return new CompletionTracker();
+    }
+}
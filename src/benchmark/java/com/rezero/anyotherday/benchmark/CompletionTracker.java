@@ -0,0 +1,37 @@
+package com.rezero.anyotherday.benchmark;
+
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import org.springframework.context.event.EventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레코드가 completed/failed가 된 시각 기록
+ * 파이프라인이 발행하는 상태 이벤트를 같은 프로세스에서 받으므로 DB 폴링이 측정에 섞이지 않음
+ */
+public class CompletionTracker {
+
+    private final Map<Integer, Long> completedAtNanos = new ConcurrentHashMap<>();
+    private final Map<Integer, String> terminalStatus = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onStatusChanged(AudioStatusEventDto event) {
+        if (event.isTerminal()) {
+            completedAtNanos.putIfAbsent(event.getRecordId(), System.nanoTime());
+            terminalStatus.putIfAbsent(event.getRecordId(), event.getStatus());
+        }
+    }
+
+    public Long getCompletedAtNanos(Integer recordId) {
+        return completedAtNanos.get(recordId);
+    }
+
+    public String getStatus(Integer recordId) {
+        return terminalStatus.get(recordId);
+    }
+
+    public boolean isDone(Integer recordId) {
+        return completedAtNanos.containsKey(recordId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.rezero.anyotherday.benchmark;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 인프로세스 S3
+ * 업로드 스트림은 끝까지 읽되(실제 전송처럼 요청 본문을 소비) 내용은 보관하지 않고 크기만 기록
+ * 내용을 힙에 쌓으면 최대 힙 사용량이 실제 서버와 달라지므로
+ * 멀티파트 업로드도 파트 크기만 모아 두었다가 완료 시 객체 하나로 기록
+ */
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, Long> objectSizes = new ConcurrentHashMap<>();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    // uploadId -> (partNumber -> 크기)
+    private final Map<String, Map<Integer, Long>> multipartUploads = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResult putObject(String bucketName, String key, InputStream input, ObjectMetadata metadata) {
+        long size = drain(input);
+        objectSizes.put(bucketName + "/" + key, size);
+        bytesReceived.addAndGet(size);
+        return new PutObjectResult();
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        if (request.getFile() != null) {
+            long size = request.getFile().length();
+            objectSizes.put(request.getBucketName() + "/" + request.getKey(), size);
+            bytesReceived.addAndGet(size);
+            return new PutObjectResult();
+        }
+        return putObject(request.getBucketName(), request.getKey(), request.getInputStream(), request.getMetadata());
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentHashMap<>());
+
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        Map<Integer, Long> parts = requireUpload(request.getUploadId());
+        long size;
+        try {
+            size = drain(request.getFile() != null
+                    ? new FileInputStream(request.getFile())
+                    : request.getInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        parts.put(request.getPartNumber(), size);
+        bytesReceived.addAndGet(size);
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(request.getUploadId() + "-" + request.getPartNumber());
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Map<Integer, Long> parts = requireUpload(request.getUploadId());
+        long size = 0;
+        for (PartETag etag : request.getPartETags()) {
+            Long partSize = parts.get(etag.getPartNumber());
+            if (partSize == null) {
+                throw new AmazonS3Exception("Missing part " + etag.getPartNumber() + " for upload " + request.getUploadId());
+            }
+            size += partSize;
+        }
+        multipartUploads.remove(request.getUploadId());
+        objectSizes.put(request.getBucketName() + "/" + request.getKey(), size);
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.getUploadId());
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return objectSizes.containsKey(bucketName + "/" + objectName);
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("http://in-memory-s3/" + bucketName + "/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public int getObjectCount() {
+        return objectSizes.size();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    private Map<Integer, Long> requireUpload(String uploadId) {
+        Map<Integer, Long> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            AmazonS3Exception e = new AmazonS3Exception("No such upload: " + uploadId);
+            e.setStatusCode(404);
+            throw e;
+        }
+        return parts;
+    }
+
+    private static long drain(InputStream input) {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try (InputStream in = input) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,344 @@
+package com.rezero.anyotherday.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rezero.anyotherday.AnyotherdayApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 → AI → 리포트 end-to-end 처리량 벤치마크
+ * H2(MySQL 모드) + 인프로세스 S3 + AI 시뮬레이터로 앱 전체를 띄우고
+ * /api/v1/audio-records/ward/{wardId}로 동시 멀티파트 업로드를 보내 다음을 측정한다.
+ *  - uploads/s (업로드 응답 기준)
+ *  - time-to-report p50/p95/p99 (업로드 요청 시작 → completed 상태 이벤트)
+ *  - reports/s, 최대 힙 사용량, GC 횟수/시간
+ *
+ * 실행: ./gradlew benchmark -Pbenchmark.uploads=1000 -Pbenchmark.concurrency=32
+ * benchmark.min-uploads-per-second / benchmark.max-p95-ms를 주면 기준 미달 시 종료 코드 1 (회귀 게이트)
+ */
+public class PipelineBenchmark {
+
+    private static final String BOUNDARY = "----anyotherday-benchmark";
+
+    private final int uploads = Integer.getInteger("benchmark.uploads", 500);
+    private final int warmupUploads = Integer.getInteger("benchmark.warmup-uploads", 50);
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 16);
+    private final int wards = Integer.getInteger("benchmark.wards", 50);
+    private final int fileBytes = Integer.getInteger("benchmark.file-bytes", 256 * 1024);
+    private final long completionTimeoutSeconds = Long.getLong("benchmark.completion-timeout-seconds", 600);
+    private final double minUploadsPerSecond = Double.parseDouble(System.getProperty("benchmark.min-uploads-per-second", "0"));
+    private final long maxP95Ms = Long.getLong("benchmark.max-p95-ms", 0);
+    private final String output = System.getProperty("benchmark.output", "build/reports/benchmark/pipeline.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private ConfigurableApplicationContext context;
+    private CompletionTracker completionTracker;
+    private String uploadUrlPrefix;
+    private byte[] multipartBody;
+    private int fileDataOffset;
+
+    // 업로드마다 파일 내용을 다르게 해 중복 업로드(content hash)로 처리되지 않게 함
+    private final AtomicLong uploadSequence = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        int exitCode = new PipelineBenchmark().run();
+        System.exit(exitCode);
+    }
+
+    private int run() throws Exception {
+        context = new SpringApplicationBuilder(AnyotherdayApplication.class)
+                .profiles("benchmark")
+                .run();
+        try {
+            completionTracker = context.getBean(CompletionTracker.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            uploadUrlPrefix = "http://localhost:" + port + "/api/v1/audio-records/ward/";
+            multipartBody = buildMultipartBody(createWav(fileBytes));
+            seedWards();
+
+            System.out.printf("Warmup: %d uploads%n", warmupUploads);
+            runRound(warmupUploads);
+
+            System.gc();
+            resetPeakHeap();
+            long gcCountBefore = gcCount();
+            long gcTimeBefore = gcTimeMs();
+
+            System.out.printf("Measuring: %d uploads, concurrency %d, %d wards, %d bytes/file%n",
+                    uploads, concurrency, wards, fileBytes);
+            RoundResult result = runRound(uploads);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("uploads", uploads);
+            report.put("concurrency", concurrency);
+            report.put("wards", wards);
+            report.put("fileBytes", fileBytes);
+            report.put("accepted", result.accepted);
+            report.put("rejected429", result.rejected);
+            report.put("uploadErrors", result.errors);
+            report.put("completed", result.completed);
+            report.put("failed", result.failed);
+            report.put("unfinished", result.unfinished);
+            report.put("uploadsPerSecond", round(result.accepted / result.uploadSeconds));
+            report.put("reportsPerSecond", round(result.completed / result.totalSeconds));
+            report.put("timeToReportP50Ms", percentile(result.timeToReportMs, 50));
+            report.put("timeToReportP95Ms", percentile(result.timeToReportMs, 95));
+            report.put("timeToReportP99Ms", percentile(result.timeToReportMs, 99));
+            report.put("timeToReportMaxMs", result.timeToReportMs.isEmpty() ? 0 : result.timeToReportMs.get(result.timeToReportMs.size() - 1));
+            report.put("peakHeapBytes", peakHeapBytes());
+            report.put("gcCount", gcCount() - gcCountBefore);
+            report.put("gcTimeMs", gcTimeMs() - gcTimeBefore);
+
+            String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+            System.out.println(json);
+            Path outputPath = Path.of(output);
+            if (outputPath.getParent() != null) {
+                Files.createDirectories(outputPath.getParent());
+            }
+            Files.writeString(outputPath, json);
+
+            return checkGates(report) ? 0 : 1;
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 업로드를 동시에 보내고 모든 레코드가 끝날 때까지 대기
+     */
+    private RoundResult runRound(int count) throws Exception {
+        Map<Integer, Long> uploadStartNanos = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        long roundStart = System.nanoTime();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.execute(() -> {
+                int n;
+                while ((n = next.getAndIncrement()) < count) {
+                    int wardId = (n % wards) + 1;
+                    upload(wardId, uploadStartNanos, rejected, errors);
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(completionTimeoutSeconds, TimeUnit.SECONDS);
+        double uploadSeconds = (System.nanoTime() - roundStart) / 1e9;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(completionTimeoutSeconds);
+        while (System.nanoTime() < deadline
+                && !uploadStartNanos.keySet().stream().allMatch(completionTracker::isDone)) {
+            Thread.sleep(50);
+        }
+        double totalSeconds = (System.nanoTime() - roundStart) / 1e9;
+
+        RoundResult result = new RoundResult();
+        result.accepted = uploadStartNanos.size();
+        result.rejected = rejected.get();
+        result.errors = errors.get();
+        result.uploadSeconds = uploadSeconds;
+        result.totalSeconds = totalSeconds;
+        uploadStartNanos.forEach((recordId, startNanos) -> {
+            Long doneNanos = completionTracker.getCompletedAtNanos(recordId);
+            if (doneNanos == null) {
+                result.unfinished++;
+            } else if ("completed".equals(completionTracker.getStatus(recordId))) {
+                result.completed++;
+                result.timeToReportMs.add(TimeUnit.NANOSECONDS.toMillis(doneNanos - startNanos));
+            } else {
+                result.failed++;
+            }
+        });
+        Collections.sort(result.timeToReportMs);
+        return result;
+    }
+
+    /**
+     * 업로드 한 건 (429면 Retry-After만큼 기다렸다가 다시 시도)
+     */
+    private void upload(int wardId, Map<Integer, Long> uploadStartNanos, AtomicInteger rejected, AtomicInteger errors) {
+        byte[] requestBody = multipartBody.clone();
+        ByteBuffer.wrap(requestBody, fileDataOffset, Long.BYTES).putLong(uploadSequence.incrementAndGet());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrlPrefix + wardId))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody))
+                .build();
+        long startNanos = System.nanoTime();
+        try {
+            while (true) {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 429) {
+                    rejected.incrementAndGet();
+                    long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+                    continue;
+                }
+                if (response.statusCode() != 201) {
+                    errors.incrementAndGet();
+                    return;
+                }
+                JsonNode body = objectMapper.readTree(response.body());
+                uploadStartNanos.put(body.path("data").path("recordId").asInt(), startNanos);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.incrementAndGet();
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private void seedWards() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("INSERT INTO guardian (name, email, password, phone) VALUES (?, ?, ?, ?)",
+                "벤치마크 보호자", "bench@test.com", "bench", "010-0000-0000");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= wards; i++) {
+            rows.add(new Object[]{"피보호자" + i, 75, "010-0000-" + String.format("%04d", i),
+                    "{\"answered\": true, \"stroke_history\": false}"});
+        }
+        jdbc.batchUpdate("INSERT INTO ward (guardian_id, name, birth_date, age, gender, phone, relationship, diagnosis) "
+                + "VALUES (1, ?, DATE '1950-01-01', ?, 'female', ?, '자녀', ?)", rows);
+    }
+
+    private boolean checkGates(Map<String, Object> report) {
+        boolean passed = true;
+        double uploadsPerSecond = (double) report.get("uploadsPerSecond");
+        long p95 = (long) report.get("timeToReportP95Ms");
+        if (minUploadsPerSecond > 0 && uploadsPerSecond < minUploadsPerSecond) {
+            System.err.printf("FAIL: uploads/s %.2f < %.2f%n", uploadsPerSecond, minUploadsPerSecond);
+            passed = false;
+        }
+        if (maxP95Ms > 0 && p95 > maxP95Ms) {
+            System.err.printf("FAIL: time-to-report p95 %dms > %dms%n", p95, maxP95Ms);
+            passed = false;
+        }
+        if ((int) report.get("unfinished") > 0) {
+            System.err.printf("FAIL: %d records did not finish within %ds%n", report.get("unfinished"), completionTimeoutSeconds);
+            passed = false;
+        }
+        return passed;
+    }
+
+    /**
+     * 16kHz mono 16-bit PCM WAV (무음)
+     */
+    private static byte[] createWav(int totalBytes) {
+        int dataBytes = Math.max(Long.BYTES, totalBytes - 44) & ~1;
+        ByteBuffer wav = ByteBuffer.allocate(44 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataBytes)
+                .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(16_000).putInt(16_000 * 2)
+                .putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataBytes);
+        return wav.array();
+    }
+
+    private byte[] buildMultipartBody(byte[] file) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(file.length + 256);
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"benchmark.wav\"\r\n"
+                + "Content-Type: audio/wav\r\n\r\n";
+        byte[] headBytes = head.getBytes(StandardCharsets.UTF_8);
+        // WAV 헤더(44바이트) 바로 뒤 PCM 데이터 시작 위치
+        fileDataOffset = headBytes.length + 44;
+        body.writeBytes(headBytes);
+        body.writeBytes(file);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private static long percentile(List<Long> sorted, int p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * 힙 메모리 풀별 최대 사용량의 합 (풀마다 최대 시점이 다르므로 실제 최대치보다 약간 클 수 있음)
+     */
+    private static long peakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcTimeMs() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static class RoundResult {
+        private int accepted;
+        private int rejected;
+        private int errors;
+        private int completed;
+        private int failed;
+        private int unfinished;
+        private double uploadSeconds;
+        private double totalSeconds;
+        private final List<Long> timeToReportMs = new ArrayList<>();
+    }
+}
@@ -0,0 +1,120 @@
+-- 벤치마크용 H2 스키마 (src/main/resources/db/schema.sql과 같은 구조)
+-- H2에서 JSON 컬럼은 문자열 파라미터를 JSON 문자열 값으로 저장하므로 CLOB 사용
+
+CREATE TABLE guardian (
+    guardian_id   INT AUTO_INCREMENT PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    password      VARCHAR(255) NOT NULL,
+    phone         VARCHAR(20)  NOT NULL,
+    created_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    status        ENUM('active', 'deleted') NOT NULL DEFAULT 'active'
+);
+
+CREATE TABLE ward (
+    ward_id        INT AUTO_INCREMENT PRIMARY KEY,
+    guardian_id    INT NOT NULL,
+    name           VARCHAR(255) NOT NULL,
+    birth_date     DATE NOT NULL,
+    age            INT NOT NULL,
+    gender         ENUM('male', 'female') NOT NULL,
+    phone          VARCHAR(15) NOT NULL,
+    relationship   VARCHAR(50) NOT NULL,
+    diagnosis      CLOB NOT NULL,
+    created_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    status         ENUM('active', 'deleted') NOT NULL DEFAULT 'active',
+    CONSTRAINT fk_guardian_to_ward FOREIGN KEY (guardian_id) REFERENCES guardian(guardian_id)
+);
+
+CREATE TABLE audio_record (
+    record_id        INT AUTO_INCREMENT PRIMARY KEY,
+    ward_id          INT NOT NULL,
+    uploaded_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    recorded_at      DATETIME NULL,
+    file_url         VARCHAR(500) NOT NULL,
+    file_format      VARCHAR(10)  NOT NULL,
+    status           ENUM('pending', 'processing', 'completed', 'failed') DEFAULT 'pending',
+    error_message    CLOB NULL,
+    transcript_text  CLOB NULL,
+    duration_ms      BIGINT NULL,
+    sample_rate      INT NULL,
+    channels         TINYINT NULL,
+    content_hash     CHAR(64) NULL,
+    storage_status   VARCHAR(20) NOT NULL DEFAULT 'stored',
+    spool_path       VARCHAR(500) NULL,
+    spool_node       VARCHAR(100) NULL,
+    attempt_count    INT NOT NULL DEFAULT 0,
+    next_attempt_at  DATETIME NULL,
+    locked_by        VARCHAR(100) NULL,
+    lease_expires_at DATETIME NULL,
+    CONSTRAINT fk_ward_to_audio_record FOREIGN KEY (ward_id) REFERENCES ward(ward_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_record_ward ON audio_record(ward_id);
+CREATE INDEX idx_record_recent ON audio_record(ward_id, uploaded_at);
+CREATE INDEX idx_record_queue ON audio_record(status, next_attempt_at);
+CREATE INDEX idx_record_lease ON audio_record(status, lease_expires_at);
+CREATE UNIQUE INDEX uq_record_content ON audio_record(ward_id, content_hash);
+CREATE UNIQUE INDEX uq_record_file ON audio_record(ward_id, file_url);
+CREATE INDEX idx_record_storage ON audio_record(storage_status, spool_node);
+
+CREATE TABLE ai_report (
+    report_id        INT AUTO_INCREMENT PRIMARY KEY,
+    record_id        INT NOT NULL,
+    analysis_result  CLOB NOT NULL,
+    summary          CLOB NULL,
+    created_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_record_to_ai_report FOREIGN KEY (record_id) REFERENCES audio_record(record_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_report_record ON ai_report(record_id);
+CREATE INDEX idx_report_recent ON ai_report(created_at);
+
+CREATE TABLE processing_event (
+    event_id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    record_id        INT NOT NULL,
+    ward_id          INT NOT NULL,
+    attempt          INT NOT NULL DEFAULT 1,
+    stage            VARCHAR(50) NOT NULL,
+    started_at       TIMESTAMP(3) NOT NULL,
+    ended_at         TIMESTAMP(3) NOT NULL,
+    duration_ms      BIGINT NOT NULL,
+    outcome          VARCHAR(30) NOT NULL,
+    CONSTRAINT fk_record_to_processing_event FOREIGN KEY (record_id) REFERENCES audio_record(record_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_event_record ON processing_event(record_id, started_at);
+CREATE INDEX idx_event_stage ON processing_event(started_at, stage);
+CREATE INDEX idx_event_ward ON processing_event(ward_id, started_at);
+
+CREATE TABLE diagnosis_cache (
+    fingerprint      CHAR(64) PRIMARY KEY,
+    response_json    CLOB NOT NULL,
+    hit_count        INT NOT NULL DEFAULT 0,
+    created_at       TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_hit_at      TIMESTAMP NULL,
+    expires_at       TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_cache_expires ON diagnosis_cache(expires_at);
+
+CREATE TABLE upload_session (
+    session_id       CHAR(36) PRIMARY KEY,
+    ward_id          INT NOT NULL,
+    file_name        VARCHAR(255) NOT NULL,
+    content_type     VARCHAR(100) NULL,
+    recorded_at      DATETIME NULL,
+    total_bytes      BIGINT NOT NULL,
+    received_bytes   BIGINT NOT NULL DEFAULT 0,
+    status           ENUM('open', 'completed', 'expired') NOT NULL DEFAULT 'open',
+    record_id        INT NULL,
+    created_at       TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at       TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    expires_at       TIMESTAMP NOT NULL,
+    CONSTRAINT fk_ward_to_upload_session FOREIGN KEY (ward_id) REFERENCES ward(ward_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_session_expires ON upload_session(status, expires_at);
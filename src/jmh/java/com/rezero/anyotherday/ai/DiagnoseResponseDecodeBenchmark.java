@@ -0,0 +1,98 @@
+package com.rezero.anyotherday.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.ai.service.DiagnoseResponseCodec;
+import com.rezero.anyotherday.config.RestTemplateConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 응답 디코딩 비교
+ *  - legacy: 기존 AIServiceImpl 경로 (String → Map → String → DiagnoseResponse)
+ *  - codec: DiagnoseResponseCodec (스트림에서 한 번에 바인딩)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagnoseResponseDecodeBenchmark {
+
+    // ASR 전사 길이 (문자 수)
+    @Param({"1000", "20000"})
+    public int asrLength;
+
+    // {"result": ...} 봉투 여부
+    @Param({"true", "false"})
+    public boolean enveloped;
+
+    private ObjectMapper objectMapper;
+    private DiagnoseResponseCodec codec;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new RestTemplateConfig().objectMapper();
+        codec = new DiagnoseResponseCodec(objectMapper);
+
+        StringBuilder asr = new StringBuilder(asrLength);
+        String sentence = "보호자: 어머니 오늘 점심은 드셨어요? 피보호자: 응 아까 조금 먹었어. ";
+        while (asr.length() < asrLength) {
+            asr.append(sentence);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("accuracy", List.of(12.5, 30.1, 57.4));
+        result.put("ASR", asr.substring(0, asrLength));
+        result.put("risk", List.of("낮음", "보통", "낮음", "낮음"));
+        result.put("explain", List.of(
+                "발화 속도와 조음이 정상 범위입니다.",
+                "단어 회상에 약간의 지연이 관찰됩니다.",
+                "",
+                ""));
+        result.put("total", "전반적으로 양호하나 단어 회상 지연이 관찰되어 지속적인 관찰이 필요합니다.");
+        result.put("summary", "최근 통화에서 단어 회상 지연이 조금씩 늘고 있으나 일상 대화는 원활합니다.");
+
+        Object payload = enveloped ? Map.of("result", result) : result;
+        body = objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public DiagnoseResponse legacy() throws Exception {
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        Map<String, Object> responseMap = objectMapper.readValue(responseBody, Map.class);
+
+        String bodyToParse = responseBody;
+        if (responseMap.containsKey("result")) {
+            Object resultObj = responseMap.get("result");
+            if (resultObj != null) {
+                bodyToParse = objectMapper.writeValueAsString(resultObj);
+            }
+        }
+        return objectMapper.readValue(bodyToParse, DiagnoseResponse.class);
+    }
+
+    @Benchmark
+    public DiagnoseResponse codec() throws Exception {
+        return codec.decode(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,135 @@
+package com.rezero.anyotherday.audio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.ai.service.ReportHistoryServiceImpl;
+import com.rezero.anyotherday.config.RestTemplateConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오디오 처리 파이프라인의 Jackson 작업
+ *  - summarizeReport: ReportHistoryServiceImpl.summarizeReport (이전 analysis_result 전체 readTree)
+ *  - parseDiagnosis: AudioProcessingServiceImpl.parseDiagnosis (자가진단 JSON → Map)
+ *  - serializeReport: 리포트 저장 시 writeValueAsString(aiResponse)
+ *  - serializeRequestForLog: 파이프라인 Step 6에서 로깅만을 위해 요청 직렬화 (앞 500자만 출력)
+ *  - serializeRequestForAiLog: AIServiceImpl이 요청 본문 전체를 로깅하려고 직렬화
+ * ./gradlew jmh 결과는 -prof gc로 할당량(gc.alloc.rate.norm)까지 함께 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AudioPipelineJsonBenchmark {
+
+    // ASR 전사 길이 (문자 수) - 통화 몇 분 분량 / 긴 통화
+    @Param({"3000", "30000"})
+    public int asrLength;
+
+    // 자가진단 문항 수
+    @Param({"30"})
+    public int questionCount;
+
+    private ObjectMapper objectMapper;
+    private ReportHistoryServiceImpl reportHistoryService;
+
+    private String analysisResult;
+    private String diagnosisJson;
+    private DiagnoseResponse aiResponse;
+    private DiagnoseRequest aiRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new RestTemplateConfig().objectMapper();
+        reportHistoryService = new ReportHistoryServiceImpl(null, objectMapper);
+
+        StringBuilder asr = new StringBuilder(asrLength);
+        String sentence = "보호자: 어머니 오늘 점심은 드셨어요? 피보호자: 응 아까 조금 먹었어. 약은 챙겨 드셨고요? ";
+        while (asr.length() < asrLength) {
+            asr.append(sentence);
+        }
+
+        aiResponse = DiagnoseResponse.builder()
+                .accuracy(List.of(12.5, 30.1, 57.4))
+                .asr(asr.substring(0, asrLength))
+                .risk(List.of("낮음", "보통", "낮음", "낮음"))
+                .explain(List.of(
+                        "발화 속도와 조음이 정상 범위입니다. 문장 구성도 자연스럽습니다.",
+                        "단어 회상에 약간의 지연이 관찰됩니다. 지난 통화보다 머뭇거림이 늘었습니다.",
+                        "",
+                        ""))
+                .total("전반적으로 양호하나 단어 회상 지연이 관찰되어 지속적인 관찰이 필요합니다.")
+                .summary("최근 통화에서 단어 회상 지연이 조금씩 늘고 있으나 일상 대화는 원활합니다. "
+                        + "식사와 복약은 규칙적으로 하고 계시며 수면 시간이 다소 줄었다고 말씀하셨습니다.")
+                .build();
+        analysisResult = objectMapper.writeValueAsString(aiResponse);
+
+        List<Map<String, Object>> questions = new ArrayList<>();
+        for (int i = 1; i <= questionCount; i++) {
+            Map<String, Object> question = new LinkedHashMap<>();
+            question.put("id", i);
+            question.put("category", i % 3 == 0 ? "cognitive" : i % 3 == 1 ? "motor" : "speech");
+            question.put("text", "최근 한 달 동안 손이나 팔에 힘이 빠지거나 물건을 떨어뜨린 적이 있나요? (" + i + ")");
+            question.put("answer", i % 5);
+            question.put("note", i % 4 == 0 ? "가끔 그렇다고 응답" : null);
+            questions.add(question);
+        }
+        Map<String, Object> selfReport = new LinkedHashMap<>();
+        selfReport.put("answered", true);
+        selfReport.put("completedAt", "2025-12-01T10:30:00Z");
+        selfReport.put("version", 3);
+        selfReport.put("questions", questions);
+        diagnosisJson = objectMapper.writeValueAsString(selfReport);
+
+        aiRequest = DiagnoseRequest.builder()
+                .audioPath("https://bucket.s3.ap-northeast-2.amazonaws.com/audio/1/4f1c2a.wav")
+                .selfReport(parseDiagnosis())
+                .reportHistory(Map.of("2025-11-27", reportHistoryService.summarizeReport(analysisResult, "2025-11-27")))
+                .build();
+    }
+
+    @Benchmark
+    public String summarizeReport() {
+        return reportHistoryService.summarizeReport(analysisResult, "2025-11-27");
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> parseDiagnosis() throws Exception {
+        return objectMapper.readValue(diagnosisJson, Map.class);
+    }
+
+    @Benchmark
+    public String serializeReport() throws Exception {
+        return objectMapper.writeValueAsString(aiResponse);
+    }
+
+    @Benchmark
+    public String serializeRequestForLog() throws Exception {
+        String requestJson = objectMapper.writeValueAsString(aiRequest);
+        return requestJson.length() > 500 ? requestJson.substring(0, 500) + "..." : requestJson;
+    }
+
+    @Benchmark
+    public String serializeRequestForAiLog() throws Exception {
+        return objectMapper.writeValueAsString(aiRequest);
+    }
+}
@@ -0,0 +1,42 @@
+package com.rezero.anyotherday.ai.controller;
+
+import com.rezero.anyotherday.ai.service.AICircuitBreaker;
+import com.rezero.anyotherday.ai.service.DiagnosisCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/ai")
+@RequiredArgsConstructor
+@Tag(name = "AI", description = "AI 서버 연동 상태 API")
+public class AIController {
+
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final DiagnosisCache diagnosisCache;
+
+    @Operation(summary = "AI 서버 서킷 브레이커 상태 및 최근 전이 기록 조회")
+    @GetMapping("/circuit-breaker")
+    public ResponseEntity<Map<String, Object>> getCircuitBreakerStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", aiCircuitBreaker.getStatus());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "AI 진단 결과 캐시 적중/미스 통계 조회")
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", diagnosisCache.getStats());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,19 @@
+package com.rezero.anyotherday.ai.dao;
+
+import com.rezero.anyotherday.ai.dto.DiagnosisCacheEntryDto;
+import org.apache.ibatis.annotations.*;
+
+@Mapper
+public interface DiagnosisCacheDao {
+
+    // 만료되지 않은 캐시 항목 (없으면 null)
+    DiagnosisCacheEntryDto getEntry(@Param("fingerprint") String fingerprint);
+
+    int touch(@Param("fingerprint") String fingerprint);
+
+    int upsert(@Param("fingerprint") String fingerprint,
+            @Param("responseJson") String responseJson,
+            @Param("ttlSeconds") long ttlSeconds);
+
+    int deleteExpired();
+}
@@ -0,0 +1,53 @@
+package com.rezero.anyotherday.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AI 서버 서킷 브레이커 상태 조회 응답
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CircuitBreakerStatusDto {
+
+    /**
+     * CLOSED / OPEN / HALF_OPEN
+     */
+    private String state;
+
+    /**
+     * 최근 호출 중 실패 비율 (%)
+     */
+    private double failureRate;
+
+    private int bufferedCalls;
+    private int failedCalls;
+
+    /**
+     * OPEN 상태일 때 다음 헬스 체크(half-open) 가능 시각
+     */
+    private LocalDateTime openUntil;
+
+    /**
+     * 최근 상태 전이 기록 (오래된 순)
+     */
+    private List<Transition> transitions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Transition {
+        private String from;
+        private String to;
+        private String reason;
+        private LocalDateTime at;
+    }
+}
@@ -0,0 +1,27 @@
+package com.rezero.anyotherday.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * diagnosis_cache 조회 결과 (만료되지 않은 항목)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiagnosisCacheEntryDto {
+
+    private String responseJson;
+
+    private LocalDateTime expiresAt;
+
+    /**
+     * 만료까지 남은 초 - DB 시각 기준으로 계산해 앱 서버와의 시간대/시계 차이를 타지 않음
+     */
+    private long remainingSeconds;
+}
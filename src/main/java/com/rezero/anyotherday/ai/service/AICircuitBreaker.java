@@ -0,0 +1,218 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.rezero.anyotherday.ai.dto.CircuitBreakerStatusDto;
+import com.rezero.anyotherday.audio.service.DeadlineExceededException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 서킷 브레이커
+ * - CLOSED: 최근 window-size개 호출 중 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: open-duration 동안 AI 서버를 호출하지 않고 바로 AIUnavailableException (작업은 pending으로 보류됨)
+ * - HALF_OPEN: open-duration이 지난 뒤 첫 호출이 healthCheck로 서버 상태를 확인, 성공하면 CLOSED 아니면 다시 OPEN
+ * 연결 실패/타임아웃(ResourceAccessException)과 5xx만 실패로 센다. 응답 파싱 오류는 서버 장애가 아님
+ * 작업의 남은 예산으로 줄인 타임아웃(DeadlineExceededException)은 작업 쪽 사정이므로 실패로 세지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AICircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int MAX_TRANSITIONS = 20;
+
+    private final AIService aiService;
+
+    @Value("${ai.breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.breaker.window-size:10}")
+    private int windowSize;
+
+    // 실패율을 계산하기 위한 최소 호출 수
+    @Value("${ai.breaker.minimum-calls:5}")
+    private int minimumCalls;
+
+    @Value("${ai.breaker.failure-rate-threshold:50}")
+    private double failureRateThreshold;
+
+    @Value("${ai.breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    private State state = State.CLOSED;
+    private boolean[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private LocalDateTime openUntil;
+    private final Deque<CircuitBreakerStatusDto.Transition> transitions = new ArrayDeque<>();
+
+    @PostConstruct
+    public void init() {
+        window = new boolean[windowSize];
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 AI 호출 실행
+     *
+     * @throws AIUnavailableException 서킷이 열려 있거나 헬스 체크가 실패했을 때
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        checkPermitted();
+        try {
+            T result = call.get();
+            record(false);
+            return result;
+        } catch (RuntimeException e) {
+            if (isServerFailure(e)) {
+                record(true);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 서킷이 열려 있고 아직 헬스 체크 시각이 되지 않았는지
+     * 디스패처가 이 동안 작업을 점유하지 않도록 확인하는 용도
+     */
+    public synchronized boolean isOpen() {
+        return enabled && state == State.OPEN && LocalDateTime.now().isBefore(openUntil);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized CircuitBreakerStatusDto getStatus() {
+        return CircuitBreakerStatusDto.builder()
+                .state(state.name())
+                .failureRate(failureRate())
+                .bufferedCalls(bufferedCalls)
+                .failedCalls(failedCalls)
+                .openUntil(state == State.OPEN ? openUntil : null)
+                .transitions(new ArrayList<>(transitions))
+                .build();
+    }
+
+    /**
+     * AI 서버 장애로 볼 수 있는 예외인지 (연결 실패, 타임아웃, 5xx)
+     * 처리 예산 때문에 짧아진 타임아웃은 제외
+     */
+    public static boolean isServerFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DeadlineExceededException) {
+                return false;
+            }
+            if (t instanceof ResourceAccessException || t instanceof HttpServerErrorException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkPermitted() {
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                throw new AIUnavailableException("AI circuit breaker is half-open - health probe in progress",
+                        Duration.ofMillis(openDurationMs));
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (now.isBefore(openUntil)) {
+                throw new AIUnavailableException("AI circuit breaker is open", Duration.between(now, openUntil));
+            }
+            transition(State.HALF_OPEN, "open duration elapsed - probing AI server health");
+        }
+
+        // HALF_OPEN으로 바꾼 스레드만 여기까지 오므로 헬스 체크는 한 번만 실행됨
+        boolean healthy;
+        try {
+            healthy = aiService.isHealthy();
+        } catch (Exception e) {
+            healthy = false;
+        }
+
+        synchronized (this) {
+            if (healthy) {
+                resetWindow();
+                transition(State.CLOSED, "health probe succeeded");
+            } else {
+                open("health probe failed");
+                throw new AIUnavailableException("AI server health probe failed", Duration.ofMillis(openDurationMs));
+            }
+        }
+    }
+
+    private synchronized void record(boolean failed) {
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (bufferedCalls == windowSize && window[windowIndex]) {
+            failedCalls--;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+        if (bufferedCalls < windowSize) {
+            bufferedCalls++;
+        }
+
+        if (bufferedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+            open(String.format("failure rate %.1f%% over last %d calls", failureRate(), bufferedCalls));
+        }
+    }
+
+    private void open(String reason) {
+        openUntil = LocalDateTime.now().plus(Duration.ofMillis(openDurationMs));
+        transition(State.OPEN, reason);
+    }
+
+    private void resetWindow() {
+        window = new boolean[windowSize];
+        windowIndex = 0;
+        bufferedCalls = 0;
+        failedCalls = 0;
+    }
+
+    private double failureRate() {
+        return bufferedCalls == 0 ? 0 : failedCalls * 100.0 / bufferedCalls;
+    }
+
+    private void transition(State to, String reason) {
+        State from = state;
+        state = to;
+        log.warn("AI circuit breaker {} -> {}: {}", from, to, reason);
+
+        transitions.addLast(CircuitBreakerStatusDto.Transition.builder()
+                .from(from.name())
+                .to(to.name())
+                .reason(reason)
+                .at(LocalDateTime.now())
+                .build());
+        while (transitions.size() > MAX_TRANSITIONS) {
+            transitions.removeFirst();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.rezero.anyotherday.ai.service;
 import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
 import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
 
+import java.time.Duration;
+
 /**
  * AI 서버 호출 서비스 인터페이스
  */
@@ -16,10 +18,27 @@ public interface AIService {
      */
     DiagnoseResponse diagnose(DiagnoseRequest request);
 
+    /**
+     * 응답 타임아웃을 지정해 진단 요청 (작업의 남은 처리 시간만큼만 기다리기 위함)
+     *
+     * @param request 진단 요청
+     * @param timeout 응답 타임아웃 (ai.server.timeout보다 길면 ai.server.timeout 적용)
+     * @return AI 진단 결과
+     * @throws RuntimeException AI 서버 호출 실패 또는 타임아웃 시
+     */
+    DiagnoseResponse diagnose(DiagnoseRequest request, Duration timeout);
+
     /**
      * AI 서버 상태 확인
      *
      * @return 서버 상태 메시지
      */
     String healthCheck();
+
+    /**
+     * AI 서버가 요청을 받을 수 있는 상태인지 (서킷 브레이커 헬스 체크용)
+     *
+     * @return 헬스 엔드포인트가 2xx로 응답하면 true
+     */
+    boolean isHealthy();
 }
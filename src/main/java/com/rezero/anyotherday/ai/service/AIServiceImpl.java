@@ -3,28 +3,38 @@ package com.rezero.anyotherday.ai.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
 import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.config.RequestTimeoutContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.Map;
 
 /**
  * FastAPI AI 서버와 통신하는 서비스 구현
+ * ai.server.enabled=false면 SimulatedAIService가 대신 등록됨
  */
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "ai.server.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class AIServiceImpl implements AIService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final DiagnoseResponseCodec diagnoseResponseCodec;
 
     @Value("${ai.server.url:http://localhost:8000}")
     private String aiServerUrl;
@@ -35,11 +45,12 @@ public class AIServiceImpl implements AIService {
     @Value("${ai.server.health-endpoint:/}")
     private String healthEndpoint;
 
-    @Value("${ai.server.timeout:30000}")
+    @Value("${ai.server.timeout:300000}")
     private long timeout;
 
-    @Value("${ai.server.enabled:true}")
-    private boolean aiEnabled;
+    // 서킷 브레이커 half-open 확인은 진단 타임아웃(최대 5분)을 기다리지 않도록 따로 짧게
+    @Value("${ai.server.health-timeout-ms:3000}")
+    private long healthTimeoutMs;
 
     /**
      * FastAPI AI 서버에 진단 요청
@@ -48,11 +59,15 @@ public class AIServiceImpl implements AIService {
      */
     @Override
     public DiagnoseResponse diagnose(DiagnoseRequest request) {
-        if (!aiEnabled) {
-            log.warn("AI service is disabled");
-            return createMockResponse();
-        }
+        return diagnose(request, Duration.ofMillis(timeout));
+    }
 
+    /**
+     * 응답 타임아웃을 지정한 진단 요청
+     * ai.server.timeout과 timeout 중 짧은 쪽을 이 요청의 읽기 타임아웃으로 사용
+     */
+    @Override
+    public DiagnoseResponse diagnose(DiagnoseRequest request, Duration timeout) {
         try {
             log.info("AI diagnosis request started");
             log.info("  - Audio: {}", request.getAudioPath());
@@ -67,6 +82,14 @@ public class AIServiceImpl implements AIService {
             String url = aiServerUrl + diagnoseEndpoint;
             log.info("  - Target URL: {}", url);
 
+            Duration effectiveTimeout = timeout.toMillis() < this.timeout
+                    ? timeout
+                    : Duration.ofMillis(this.timeout);
+            if (effectiveTimeout.isZero() || effectiveTimeout.isNegative()) {
+                throw new IllegalStateException("No time left for AI diagnosis request");
+            }
+            log.info("  - Response timeout: {}ms", effectiveTimeout.toMillis());
+
             // 요청 데이터를 JSON 문자열로 로깅
             try {
                 String requestJson = objectMapper.writeValueAsString(request);
@@ -81,84 +104,39 @@ public class AIServiceImpl implements AIService {
 
             HttpEntity<DiagnoseRequest> entity = new HttpEntity<>(request, headers);
 
-            // AI 서버 호출 - 원본 응답을 String으로 먼저 받기
-            ResponseEntity<String> rawResponse = restTemplate.postForEntity(
-                    url,
-                    entity,
-                    String.class
-            );
+            // AI 서버 호출 - 응답 본문은 String으로 버퍼링하지 않고 스트림에서 바로 파싱
+            DiagnoseResponse diagnoseResponse = RequestTimeoutContext.call(effectiveTimeout, () ->
+                    restTemplate.execute(
+                            url,
+                            HttpMethod.POST,
+                            restTemplate.httpEntityCallback(entity),
+                            this::extractDiagnoseResponse
+                    ));
+
+            if (diagnoseResponse == null) {
+                throw new RuntimeException("AI diagnosis failed: empty response body");
+            }
 
-            log.info("AI server response status: {}", rawResponse.getStatusCode());
-            log.info("AI server raw response body (full): {}", rawResponse.getBody());
-
-            if (rawResponse.getStatusCode().is2xxSuccessful()) {
-                // 원본 응답을 DiagnoseResponse로 파싱
-                try {
-                    // AI 서버 응답이 {"result": {...}} 형태일 수 있으므로 처리
-                    String responseBody = rawResponse.getBody();
-                    Map<String, Object> responseMap = objectMapper.readValue(
-                            responseBody,
-                            Map.class
-                    );
-
-                    // "result" 필드가 있으면 그것을 파싱, 없으면 전체를 파싱
-                    String bodyToParse = responseBody;
-                    if (responseMap.containsKey("result")) {
-                        log.info("AI 응답이 'result' 필드로 감싸져 있음");
-                        Object resultObj = responseMap.get("result");
-                        if (resultObj != null) {
-                            bodyToParse = objectMapper.writeValueAsString(resultObj);
-                            log.info("'result' 필드에서 추출한 내용으로 파싱");
-                        }
-                    }
-
-                    DiagnoseResponse diagnoseResponse = objectMapper.readValue(
-                            bodyToParse,
-                            DiagnoseResponse.class
-                    );
-
-                    // explain 배열에서는 빈 문자열을 제거하지 않음
-                    // 빈 문자열이나 null은 그대로 두어 질병 순서를 유지
-                    // 프론트에서 빈 문자열/null 항목에 대해 카드를 만들지 않도록 처리
-
-                    log.info("Parsed DiagnoseResponse: {}", diagnoseResponse);
-                    log.info("  - accuracy: {}", diagnoseResponse.getAccuracy());
-                    log.info("  - asr: {}", diagnoseResponse.getAsr());
-                    log.info("  - risk: {}", diagnoseResponse.getRisk());
-                    log.info("  - explain (cleaned): {}", diagnoseResponse.getExplain());
-                    log.info("  - summary: {}", diagnoseResponse.getSummary());
-
-                    // AI 서버 응답에 accuracy가 있으면 성공
-                    if (diagnoseResponse.getAccuracy() != null && !diagnoseResponse.getAccuracy().isEmpty()) {
-                        log.info("AI diagnosis completed successfully");
-                        return diagnoseResponse;
-                    } else {
-                        log.error("AI diagnosis response is missing required fields");
-                        throw new RuntimeException(
-                                "AI diagnosis failed: Missing required fields (accuracy)"
-                        );
-                    }
-                } catch (com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException e) {
-                    log.error("JSON parsing error - Unrecognized property: {}", e.getPropertyName());
-                    log.error("Failed to parse AI response - Response structure mismatch");
-                    log.error("Response body for inspection: {}", rawResponse.getBody());
-                    throw new RuntimeException("Failed to parse AI response - Response structure doesn't match expected format. Unrecognized property: " + e.getPropertyName());
-                } catch (com.fasterxml.jackson.databind.JsonMappingException e) {
-                    log.error("JSON mapping error: {}", e.getMessage());
-                    log.error("Failed to map AI response to DiagnoseResponse class");
-                    log.error("Response body for inspection: {}", rawResponse.getBody());
-                    throw new RuntimeException("Failed to parse AI response - JSON structure mismatch: " + e.getMessage());
-                } catch (Exception parseException) {
-                    log.error("Failed to parse AI response: {}", parseException.getMessage());
-                    log.error("Exception type: {}", parseException.getClass().getName());
-                    log.error("Response body for inspection: {}", rawResponse.getBody());
-                    throw new RuntimeException("Failed to parse AI response: " + parseException.getMessage());
-                }
+            // explain 배열에서는 빈 문자열을 제거하지 않음
+            // 빈 문자열이나 null은 그대로 두어 질병 순서를 유지
+            // 프론트에서 빈 문자열/null 항목에 대해 카드를 만들지 않도록 처리
+
+            // ASR 전사는 수 KB가 될 수 있으므로 길이만 로깅
+            log.info("Parsed DiagnoseResponse");
+            log.info("  - accuracy: {}", diagnoseResponse.getAccuracy());
+            log.info("  - asr length: {}", diagnoseResponse.getAsr() != null ? diagnoseResponse.getAsr().length() : 0);
+            log.info("  - risk: {}", diagnoseResponse.getRisk());
+            log.info("  - explain (cleaned): {}", diagnoseResponse.getExplain());
+            log.info("  - summary: {}", diagnoseResponse.getSummary());
+
+            // AI 서버 응답에 accuracy가 있으면 성공
+            if (diagnoseResponse.getAccuracy() != null && !diagnoseResponse.getAccuracy().isEmpty()) {
+                log.info("AI diagnosis completed successfully");
+                return diagnoseResponse;
             } else {
-                log.error("AI server response error - Status: {}", rawResponse.getStatusCode());
-                log.error("Response body: {}", rawResponse.getBody());
+                log.error("AI diagnosis response is missing required fields");
                 throw new RuntimeException(
-                        "AI server returned non-2xx status: " + rawResponse.getStatusCode()
+                        "AI diagnosis failed: Missing required fields (accuracy)"
                 );
             }
 
@@ -177,16 +155,43 @@ public class AIServiceImpl implements AIService {
         }
     }
 
+    /**
+     * AI 서버 응답 스트림을 DiagnoseResponse로 변환
+     * AI 서버 응답이 {"result": {...}} 형태일 수 있으므로 DiagnoseResponseCodec이 한 번에 처리
+     * 응답 본문은 한 번만 읽으며 메모리에 String으로 복사하지 않음
+     */
+    private DiagnoseResponse extractDiagnoseResponse(ClientHttpResponse response) throws IOException {
+        log.info("AI server response status: {}", response.getStatusCode());
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            log.error("AI server response error - Status: {}", response.getStatusCode());
+            throw new RuntimeException(
+                    "AI server returned non-2xx status: " + response.getStatusCode()
+            );
+        }
+
+        try (InputStream body = response.getBody()) {
+            return diagnoseResponseCodec.decode(body);
+        } catch (com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException e) {
+            log.error("JSON parsing error - Unrecognized property: {}", e.getPropertyName());
+            log.error("Failed to parse AI response - Response structure mismatch");
+            throw new RuntimeException("Failed to parse AI response - Response structure doesn't match expected format. Unrecognized property: " + e.getPropertyName());
+        } catch (com.fasterxml.jackson.databind.JsonMappingException e) {
+            log.error("JSON mapping error: {}", e.getMessage());
+            log.error("Failed to map AI response to DiagnoseResponse class");
+            throw new RuntimeException("Failed to parse AI response - JSON structure mismatch: " + e.getMessage());
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            log.error("Failed to parse AI response: {}", e.getMessage());
+            log.error("Exception type: {}", e.getClass().getName());
+            throw new RuntimeException("Failed to parse AI response: " + e.getMessage());
+        }
+    }
+
     /**
      * AI 서버 상태 확인
      */
     @Override
     public String healthCheck() {
-        if (!aiEnabled) {
-            log.warn("AI service is disabled - skipping health check");
-            return "AI service is disabled";
-        }
-
         try {
             String url = aiServerUrl + healthEndpoint;
             log.info("Checking AI server status... URL: {}", url);
@@ -211,21 +216,20 @@ public class AIServiceImpl implements AIService {
     }
 
     /**
-     * Mock 응답 생성 (AI 서버가 비활성화되었을 때 사용)
+     * AI 서버 헬스 체크 (서킷 브레이커 half-open 확인용)
+     * ai.server.health-timeout-ms 안에 응답이 없으면 아직 복구되지 않은 것으로 봄
      */
-    private DiagnoseResponse createMockResponse() {
-        log.info("Returning mock AI response");
-        return DiagnoseResponse.builder()
-                .accuracy(java.util.List.of(45.0, 30.0, 25.0))
-                .asr("Mock ASR 결과 - 테스트 모드에서 생성된 대화 기록입니다.")
-                .risk(java.util.List.of("뇌졸중", "치매"))
-                .explain(java.util.List.of(
-                        "뇌졸중 의심: 45% 확률로 위험합니다.",
-                        "치매 의심: 30% 확률로 위험합니다.",
-                        "파킨슨: 10% 확률입니다.",
-                        "루게릭: 5% 확률입니다."
-                ))
-                .summary("종합 소견: 테스트 모드에서 생성된 목 응답입니다. 실제 AI 서버의 응답을 기다리고 있습니다.")
-                .build();
+    @Override
+    public boolean isHealthy() {
+        try {
+            ResponseEntity<String> response = RequestTimeoutContext.call(
+                    Duration.ofMillis(healthTimeoutMs),
+                    () -> restTemplate.getForEntity(aiServerUrl + healthEndpoint, String.class)
+            );
+            return response.getStatusCode().is2xxSuccessful();
+        } catch (RestClientException e) {
+            log.warn("AI server health probe failed: {}", e.getMessage());
+            return false;
+        }
     }
 }
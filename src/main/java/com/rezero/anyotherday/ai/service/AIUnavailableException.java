@@ -0,0 +1,21 @@
+package com.rezero.anyotherday.ai.service;
+
+import java.time.Duration;
+
+/**
+ * AI 서버가 지금은 호출을 받을 수 없는 상태 (과부하, 장애 등)
+ * 진단 자체가 실패한 것이 아니므로 작업을 failed로 만들지 않고 retryAfter 후 다시 시도한다.
+ */
+public class AIUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AIUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
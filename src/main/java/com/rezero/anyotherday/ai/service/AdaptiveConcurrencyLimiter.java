@@ -0,0 +1,253 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.rezero.anyotherday.audio.service.DeadlineExceededException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 동시성 적응형 제한 (AIMD)
+ * - 호출이 성공하고 지연이 기준(최근 최소 지연 x tolerance) 이내면 허용 동시성을 조금씩 늘리고 (+1/limit)
+ * - 과부하 신호(타임아웃, 연결 실패, 5xx, 429)가 오거나 지연이 기준을 넘으면 곱셈으로 줄인다 (x backoff-ratio)
+ * - 4xx / 응답 파싱 오류처럼 서버 부하와 무관한 실패는 허용치와 기준 지연 모두에 반영하지 않음
+ * 기준 지연은 성공한 호출로만 갱신 (빨리 끝난 연결 실패가 기준이 되면 정상 호출이 모두 느린 것으로 판정됨)
+ * 허용치를 넘는 요청은 max-wait-ms(작업 예산을 넘기면 남은 예산과 max-wait-ms 중 짧은 쪽) 동안 대기하고,
+ * 그래도 자리가 없으면 AIUnavailableException
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // 기준 지연이 올라가는 속도 (내려갈 때는 즉시 반영)
+    private static final double BASELINE_DRIFT = 0.01;
+    private static final long MIN_RETRY_AFTER_MS = 1000;
+
+    @Value("${ai.limiter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.limiter.initial-limit:5}")
+    private int initialLimit;
+
+    @Value("${ai.limiter.min-limit:1}")
+    private int minLimit;
+
+    @Value("${ai.limiter.max-limit:20}")
+    private int maxLimit;
+
+    @Value("${ai.limiter.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    // 기준 지연의 몇 배까지 정상으로 볼지
+    @Value("${ai.limiter.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${ai.limiter.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    // 허용치를 넘어 대기할 수 있는 최대 요청 수
+    @Value("${ai.limiter.max-queue:100}")
+    private int maxQueue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double baselineLatencyMs = -1;
+
+    @PostConstruct
+    public void init() {
+        limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        log.info("AI concurrency limiter initialized - enabled: {}, limit: {} (min {}, max {})",
+                enabled, (int) limit, minLimit, maxLimit);
+    }
+
+    /**
+     * 허용 동시성 안에서 AI 호출 실행
+     *
+     * @throws AIUnavailableException 대기 시간 안에 자리가 나지 않았을 때
+     */
+    public <T> T execute(Supplier<T> call) {
+        return execute(Duration.ofMillis(maxWaitMs), call);
+    }
+
+    /**
+     * 대기 시간을 제한해 AI 호출 실행
+     * 작업의 남은 처리 예산을 넘겨, 예산을 자리 대기로 다 써버린 뒤 호출 직전에 만료되지 않도록 함
+     *
+     * @param maxWait 최대 대기 시간 (max-wait-ms보다 길면 max-wait-ms 적용)
+     * @throws AIUnavailableException 대기 시간 안에 자리가 나지 않았을 때
+     */
+    public <T> T execute(Duration maxWait, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        acquire(Math.min(TimeUnit.MILLISECONDS.toNanos(maxWaitMs), Math.max(0, maxWait.toNanos())));
+        long startNanos = System.nanoTime();
+        Outcome outcome = Outcome.IGNORED;
+        try {
+            T result = call.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = isOverloadSignal(e) ? Outcome.OVERLOAD : Outcome.IGNORED;
+            throw e;
+        } finally {
+            release(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), outcome);
+        }
+    }
+
+    /**
+     * 서버 과부하로 볼 실패인지 - 타임아웃 / 연결 실패 / 5xx (AICircuitBreaker와 같은 기준) + 429
+     * 처리 예산 때문에 짧아진 타임아웃(DeadlineExceededException)은 isServerFailure와 같이 제외
+     */
+    static boolean isOverloadSignal(Throwable e) {
+        if (AICircuitBreaker.isServerFailure(e)) {
+            return true;
+        }
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DeadlineExceededException) {
+                return false;
+            }
+            if (t instanceof HttpClientErrorException.TooManyRequests) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        OVERLOAD,
+        // 부하와 무관한 실패 (4xx, 파싱 오류 등)
+        IGNORED
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 최소 지연(부하가 없을 때의 AI 처리 시간 추정치), 측정 전이면 -1
+     */
+    public long getBaselineLatencyMs() {
+        lock.lock();
+        try {
+            return (long) baselineLatencyMs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(long maxWaitNanos) {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return;
+            }
+            if (waiting >= maxQueue) {
+                throw new AIUnavailableException("AI concurrency limit reached - wait queue is full", retryAfter());
+            }
+
+            waiting++;
+            try {
+                long remainingNanos = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remainingNanos <= 0) {
+                        throw new AIUnavailableException("Timed out waiting for AI concurrency permit (limit "
+                                + (int) limit + ", waited " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms)",
+                                retryAfter());
+                    }
+                    remainingNanos = permitReleased.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+            } finally {
+                waiting--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIUnavailableException("Interrupted while waiting for AI concurrency permit", retryAfter());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyMs, Outcome outcome) {
+        lock.lock();
+        try {
+            int inFlightBefore = inFlight;
+            inFlight--;
+
+            if (outcome == Outcome.IGNORED) {
+                permitReleased.signalAll();
+                return;
+            }
+            boolean success = outcome == Outcome.SUCCESS;
+            boolean overloaded = !success
+                    || (baselineLatencyMs > 0 && latencyMs > baselineLatencyMs * latencyTolerance);
+
+            if (success) {
+                if (baselineLatencyMs < 0 || latencyMs < baselineLatencyMs) {
+                    baselineLatencyMs = latencyMs;
+                } else {
+                    baselineLatencyMs += (latencyMs - baselineLatencyMs) * BASELINE_DRIFT;
+                }
+            }
+
+            int previousLimit = (int) limit;
+            if (overloaded) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlightBefore * 2 >= previousLimit) {
+                // 허용치의 절반 이상을 실제로 쓰고 있을 때만 늘림 (한가할 때 무한정 커지지 않도록)
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+
+            if ((int) limit != previousLimit) {
+                log.info("AI concurrency limit changed: {} -> {} (latency: {}ms, baseline: {}ms, success: {})",
+                        previousLimit, (int) limit, latencyMs, (long) baselineLatencyMs, success);
+            }
+
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Duration retryAfter() {
+        return Duration.ofMillis(Math.max(MIN_RETRY_AFTER_MS, (long) baselineLatencyMs));
+    }
+}
@@ -0,0 +1,77 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * AI 서버 응답 디코더
+ * 응답은 {"result": {...}} 봉투로 감싸져 있을 수도, DiagnoseResponse 형태 그대로일 수도 있다.
+ * JsonParser로 최상위 필드를 한 번만 읽으면서
+ *  - "result"를 만나면 그 객체를 바로 DiagnoseResponse로 바인딩하고
+ *  - 그 전까지의 최상위 필드는 TokenBuffer에 보관했다가 봉투가 없으면 그대로 바인딩한다.
+ * 본문을 String/Map으로 만들었다가 다시 직렬화하는 과정이 없다.
+ *
+ * Jackson 예외(UnrecognizedPropertyException, JsonMappingException 등)는 그대로 던지므로
+ * 호출하는 쪽에서 기존과 같이 분류할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagnoseResponseCodec {
+
+    private static final String ENVELOPE_FIELD = "result";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답 스트림을 DiagnoseResponse로 변환
+     *
+     * @param body 응답 본문 스트림 (닫는 것은 호출하는 쪽 책임)
+     * @return 파싱 결과, 본문이 비어 있으면 null
+     */
+    public DiagnoseResponse decode(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    private DiagnoseResponse decode(JsonParser parser) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == null) {
+            return null;
+        }
+        if (first != JsonToken.START_OBJECT) {
+            // 객체가 아니면 ObjectMapper가 매핑 예외를 던지도록 그대로 넘김
+            return objectMapper.readValue(parser, DiagnoseResponse.class);
+        }
+
+        TokenBuffer unwrapped = new TokenBuffer(parser);
+        unwrapped.writeStartObject();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (ENVELOPE_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                // 봉투 안쪽만 바인딩하고, 나머지 최상위 필드는 읽지 않음
+                return objectMapper.readValue(parser, DiagnoseResponse.class);
+            }
+
+            unwrapped.writeFieldName(fieldName);
+            unwrapped.copyCurrentStructure(parser);
+        }
+
+        unwrapped.writeEndObject();
+        try (JsonParser replay = unwrapped.asParser(parser)) {
+            replay.nextToken();
+            return objectMapper.readValue(replay, DiagnoseResponse.class);
+        }
+    }
+}
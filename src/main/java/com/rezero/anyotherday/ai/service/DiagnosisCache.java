@@ -0,0 +1,219 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rezero.anyotherday.ai.dao.DiagnosisCacheDao;
+import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.ai.dto.DiagnosisCacheEntryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 진단 결과 캐시
+ * 입력(오디오 내용, 자가진단, 이전 리포트 요약)이 같으면 AI 추론을 다시 하지 않고 이전 결과를 재사용
+ * - 지문: SHA-256(모델 버전 | 오디오 내용 해시 | 키 정렬한 selfReport JSON | 키 정렬한 reportHistory JSON)
+ * - 메모리 LRU(max-entries) → DB(diagnosis_cache, 재시작 후에도 유지) 순서로 조회
+ * - TTL이 지난 항목은 조회하지 않고 주기적으로 삭제
+ * - ai.diagnosis.cache{result=hit_memory|hit_db|miss} 카운터로 절약한 AI 호출 수를 확인
+ */
+@Slf4j
+@Component
+public class DiagnosisCache {
+
+    private final DiagnosisCacheDao diagnosisCacheDao;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper canonicalMapper;
+
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+
+    private final ScheduledExecutorService purger = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "diagnosis-cache-purger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${ai.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${ai.cache.ttl-hours:168}")
+    private long ttlHours;
+
+    // AI 모델이 바뀌면 올려서 이전 결과를 재사용하지 않도록 함
+    @Value("${ai.cache.model-version:1}")
+    private String modelVersion;
+
+    private Map<String, Entry> memory;
+
+    public DiagnosisCache(DiagnosisCacheDao diagnosisCacheDao, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.diagnosisCacheDao = diagnosisCacheDao;
+        this.objectMapper = objectMapper;
+        this.canonicalMapper = objectMapper.copy().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.memoryHits = cacheCounter(meterRegistry, "hit_memory");
+        this.dbHits = cacheCounter(meterRegistry, "hit_db");
+        this.misses = cacheCounter(meterRegistry, "miss");
+    }
+
+    @PostConstruct
+    public void start() {
+        memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        if (enabled) {
+            purger.scheduleWithFixedDelay(this::purgeExpired, 1, 1, TimeUnit.HOURS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        purger.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 진단 입력 지문
+     *
+     * @param audioFingerprint 오디오 내용 해시 (없으면 파일 URL 등 레코드마다 고유한 값)
+     */
+    public String fingerprint(String audioFingerprint, DiagnoseRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((modelVersion + "|" + audioFingerprint + "|").getBytes(StandardCharsets.UTF_8));
+            digest.update(canonicalMapper.writeValueAsBytes(request.getSelfReport()));
+            digest.update((byte) '|');
+            digest.update(canonicalMapper.writeValueAsBytes(request.getReportHistory()));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to fingerprint diagnosis request", e);
+        }
+    }
+
+    /**
+     * 캐시된 진단 결과 (없으면 null)
+     * DB 오류는 캐시 미스로 처리 (AI 호출로 진행)
+     */
+    public DiagnoseResponse get(String fingerprint) {
+        if (!enabled) {
+            return null;
+        }
+        synchronized (memory) {
+            Entry cached = memory.get(fingerprint);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                memoryHits.increment();
+                return cached.response();
+            }
+            if (cached != null) {
+                memory.remove(fingerprint);
+            }
+        }
+        try {
+            DiagnosisCacheEntryDto entry = diagnosisCacheDao.getEntry(fingerprint);
+            if (entry != null) {
+                DiagnoseResponse cached = objectMapper.readValue(entry.getResponseJson(), DiagnoseResponse.class);
+                diagnosisCacheDao.touch(fingerprint);
+                // 메모리에도 DB 항목과 같은 시각에 만료되도록 남은 TTL로 보관 (적중할 때마다 수명이 늘지 않게)
+                remember(fingerprint, cached, Duration.ofSeconds(entry.getRemainingSeconds()));
+                dbHits.increment();
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("Diagnosis cache lookup failed: {}", e.getMessage());
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 성공한 진단 결과 저장 (실패해도 처리 흐름에는 영향 없음)
+     */
+    public void put(String fingerprint, DiagnoseResponse response) {
+        if (!enabled) {
+            return;
+        }
+        remember(fingerprint, response, Duration.ofHours(ttlHours));
+        try {
+            diagnosisCacheDao.upsert(fingerprint, objectMapper.writeValueAsString(response),
+                    Duration.ofHours(ttlHours).toSeconds());
+        } catch (Exception e) {
+            log.warn("Failed to persist diagnosis cache entry: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("memoryHits", (long) memoryHits.count());
+        stats.put("dbHits", (long) dbHits.count());
+        stats.put("misses", (long) misses.count());
+        synchronized (memory) {
+            stats.put("memoryEntries", memory.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlHours", ttlHours);
+        return stats;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (memory) {
+            memory.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        try {
+            int deleted = diagnosisCacheDao.deleteExpired();
+            if (deleted > 0) {
+                log.info("Purged {} expired diagnosis cache entries", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge diagnosis cache: {}", e.getMessage());
+        }
+    }
+
+    private void remember(String fingerprint, DiagnoseResponse response, Duration ttl) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        synchronized (memory) {
+            memory.put(fingerprint, new Entry(response, expiresAt));
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.diagnosis.cache")
+                .description("AI diagnosis cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(DiagnoseResponse response, long expiresAt) {
+    }
+}
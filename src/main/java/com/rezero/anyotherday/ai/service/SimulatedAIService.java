@@ -0,0 +1,205 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 AI 서버 시뮬레이터 (ai.server.enabled=false)
+ * FastAPI 서버 없이 파이프라인 부하 테스트를 하기 위한 AIService 구현
+ * - 지연 분포: fixed / normal / long-tail(로그 정규)
+ * - 오류율(503), 타임아웃 비율 (실제 호출과 같은 예외 타입이라 서킷 브레이커/재시도가 그대로 동작)
+ * - 응답 크기: ASR 전사 길이 프로필 (small / medium / large)
+ * - 응답 JSON을 미리 만들어 두고 매 호출마다 DiagnoseResponseCodec으로 디코딩 ({"result": ...} 봉투 선택 가능)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "ai.server.enabled", havingValue = "false")
+public class SimulatedAIService implements AIService {
+
+    private static final String ASR_SENTENCE = "어르신 오늘 식사는 하셨어요? 네 아침에 죽을 조금 먹었어요. ";
+
+    private final ObjectMapper objectMapper;
+    private final DiagnoseResponseCodec diagnoseResponseCodec;
+
+    @Value("${ai.server.timeout:300000}")
+    private long timeout;
+
+    // fixed | normal | long-tail
+    @Value("${ai.simulator.latency.distribution:normal}")
+    private String distribution;
+
+    // fixed: 지연 / normal: 평균 / long-tail: 중앙값
+    @Value("${ai.simulator.latency.mean-ms:3000}")
+    private long meanMs;
+
+    @Value("${ai.simulator.latency.stddev-ms:1000}")
+    private long stddevMs;
+
+    // long-tail 분포의 꼬리 두께 (로그 정규 sigma, 1.0이면 p99 ≈ 중앙값 x 10)
+    @Value("${ai.simulator.latency.sigma:1.0}")
+    private double sigma;
+
+    // 503을 돌려주는 비율 (0~1)
+    @Value("${ai.simulator.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${ai.simulator.error-latency-ms:50}")
+    private long errorLatencyMs;
+
+    // 응답 없이 타임아웃까지 붙잡히는 비율 (0~1)
+    @Value("${ai.simulator.timeout-rate:0.0}")
+    private double timeoutRate;
+
+    // small(200자) | medium(5,000자) | large(50,000자)
+    @Value("${ai.simulator.response-profile:small}")
+    private String responseProfile;
+
+    // 0보다 크면 프로필 대신 이 길이의 ASR 사용
+    @Value("${ai.simulator.asr-chars:0}")
+    private int asrChars;
+
+    // 실제 서버처럼 {"result": {...}}로 감싸서 응답
+    @Value("${ai.simulator.envelope:false}")
+    private boolean envelope;
+
+    // 0이 아니면 고정 시드 (재현 가능한 부하 테스트)
+    @Value("${ai.simulator.seed:0}")
+    private long seed;
+
+    private byte[] responseBody;
+    private Random seededRandom;
+
+    public SimulatedAIService(ObjectMapper objectMapper, DiagnoseResponseCodec diagnoseResponseCodec) {
+        this.objectMapper = objectMapper;
+        this.diagnoseResponseCodec = diagnoseResponseCodec;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        int length = asrChars > 0 ? asrChars : switch (responseProfile.toLowerCase()) {
+            case "medium" -> 5_000;
+            case "large" -> 50_000;
+            default -> 200;
+        };
+        DiagnoseResponse response = createResponse(length);
+        responseBody = envelope
+                ? objectMapper.writeValueAsBytes(Map.of("result", response))
+                : objectMapper.writeValueAsBytes(response);
+        seededRandom = seed != 0 ? new Random(seed) : null;
+
+        log.warn("AI server disabled - using simulator (latency: {} mean {}ms, errorRate: {}, timeoutRate: {}, "
+                        + "response: {} bytes, envelope: {})",
+                distribution, meanMs, errorRate, timeoutRate, responseBody.length, envelope);
+    }
+
+    @Override
+    public DiagnoseResponse diagnose(DiagnoseRequest request) {
+        return diagnose(request, Duration.ofMillis(timeout));
+    }
+
+    @Override
+    public DiagnoseResponse diagnose(DiagnoseRequest request, Duration timeout) {
+        long timeoutMs = Math.min(timeout.toMillis(), this.timeout);
+        if (timeoutMs <= 0) {
+            throw new IllegalStateException("No time left for AI diagnosis request");
+        }
+
+        double roll = random().nextDouble();
+        if (roll < errorRate) {
+            sleep(errorLatencyMs);
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Simulated AI server error", HttpHeaders.EMPTY, null, null);
+        }
+
+        long latencyMs = roll < errorRate + timeoutRate ? Long.MAX_VALUE : sampleLatencyMs();
+        if (latencyMs >= timeoutMs) {
+            // 실제 호출처럼 읽기 타임아웃까지 붙잡혔다가 실패
+            sleep(timeoutMs);
+            throw new ResourceAccessException("Simulated AI server read timeout after " + timeoutMs + "ms",
+                    new SocketTimeoutException("Read timed out"));
+        }
+        sleep(latencyMs);
+
+        try {
+            return diagnoseResponseCodec.decode(new ByteArrayInputStream(responseBody));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String healthCheck() {
+        return "AI simulator (latency: " + distribution + " " + meanMs + "ms, errorRate: " + errorRate
+                + ", timeoutRate: " + timeoutRate + ")";
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return true;
+    }
+
+    private long sampleLatencyMs() {
+        Random random = random();
+        double latency = switch (distribution.toLowerCase()) {
+            case "fixed" -> meanMs;
+            case "long-tail" -> meanMs * Math.exp(sigma * random.nextGaussian());
+            default -> meanMs + stddevMs * random.nextGaussian();
+        };
+        return Math.max(0, Math.round(latency));
+    }
+
+    private Random random() {
+        return seededRandom != null ? seededRandom : ThreadLocalRandom.current();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulated AI call interrupted", e);
+        }
+    }
+
+    private static DiagnoseResponse createResponse(int asrLength) {
+        StringBuilder asr = new StringBuilder(asrLength + ASR_SENTENCE.length());
+        while (asr.length() < asrLength) {
+            asr.append(ASR_SENTENCE);
+        }
+        asr.setLength(asrLength);
+
+        return DiagnoseResponse.builder()
+                .accuracy(List.of(45.0, 30.0, 25.0))
+                .asr(asr.toString())
+                .risk(List.of("뇌졸중", "치매"))
+                .explain(List.of(
+                        "뇌졸중 의심: 45% 확률로 위험합니다.",
+                        "치매 의심: 30% 확률로 위험합니다.",
+                        "파킨슨: 10% 확률입니다.",
+                        "루게릭: 5% 확률입니다."
+                ))
+                .total("시뮬레이터 응답입니다. 실제 진단 결과가 아닙니다.")
+                .summary("종합 소견: 시뮬레이터에서 생성된 응답입니다. 실제 AI 서버의 응답이 아닙니다.")
+                .build();
+    }
+}
@@ -1,17 +1,28 @@
 package com.rezero.anyotherday.audio.controller;
 
 import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import com.rezero.anyotherday.audio.dto.BatchUploadResultDto;
+import com.rezero.anyotherday.audio.dto.PresignedUploadDto;
+import com.rezero.anyotherday.audio.dto.ProcessingEventDto;
+import com.rezero.anyotherday.audio.dto.StageLatencySummaryDto;
+import com.rezero.anyotherday.audio.service.AudioJobDispatcher;
 import com.rezero.anyotherday.audio.service.AudioProcessingService;
 import com.rezero.anyotherday.audio.service.AudioRecordService;
+import com.rezero.anyotherday.audio.service.AudioStatusSseRegistry;
+import com.rezero.anyotherday.audio.service.ProcessingEventService;
+import com.rezero.anyotherday.audio.service.WardLaneExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,6 +39,10 @@ public class AudioRecordController {
 
     private final AudioRecordService audioRecordService;
     private final AudioProcessingService audioProcessingService;
+    private final AudioJobDispatcher audioJobDispatcher;
+    private final WardLaneExecutor wardLaneExecutor;
+    private final ProcessingEventService processingEventService;
+    private final AudioStatusSseRegistry audioStatusSseRegistry;
 
     @Operation(summary = "오디오 파일 업로드")
     @PostMapping( value = "/ward/{wardId}",
@@ -48,16 +63,29 @@ public class AudioRecordController {
 
             AudioRecordDto result = audioRecordService.uploadAndCreateRecord(wardId, file, recordedAt);
 
-            // Start async AI processing (audio analysis and report generation)
-            log.info("Starting async AI processing - recordId: {}", result.getRecordId());
-            audioProcessingService.processAudioAsync(result.getRecordId(), wardId);
+            // pending 레코드가 곧 큐 작업 - 디스패처를 깨워 바로 AI 처리 시작
+            log.info("Audio job queued for AI processing - recordId: {}", result.getRecordId());
+            audioJobDispatcher.wakeUp();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", result);
+
+            // 같은 파일 재업로드 - 새 레코드를 만들지 않고 기존 레코드(와 그 리포트)를 가리킴
+            if (result.isDuplicate()) {
+                response.put("message", "Same audio file was already uploaded. Linked to existing record.");
+                return ResponseEntity.ok(response);
+            }
             response.put("message", "Audio record uploaded successfully. AI analysis in progress...");
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            // 오디오가 아니거나 헤더가 깨진 파일
+            log.warn("Rejected audio upload for wardId: {} - {}", wardId, e.getMessage());
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Invalid audio file: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             log.error("Error uploading audio record", e);
             Map<String, Object> response = new HashMap<>();
@@ -67,6 +95,122 @@ public class AudioRecordController {
         }
     }
 
+    @Operation(summary = "오디오 파일 일괄 업로드",
+            description = "files로 여러 녹음을 한 번에 업로드. 파일별 결과(created/duplicate/failed)를 요청 순서대로 반환")
+    @PostMapping(value = "/ward/{wardId}/batch",
+                 consumes = "multipart/form-data")
+    public ResponseEntity<Map<String, Object>> uploadAudioRecordBatch(
+            @PathVariable Integer wardId,
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestParam(value = "recordedAt", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd")
+            LocalDate recordedDate
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("Batch uploading {} audio records for wardId: {}", files.size(), wardId);
+
+            LocalDateTime recordedAt = recordedDate != null
+                    ? recordedDate.atStartOfDay()
+                    : null;
+
+            List<BatchUploadResultDto> results = audioRecordService.uploadBatch(wardId, files, recordedAt);
+
+            // 새로 만든 레코드 전체를 한 번에 큐에서 가져가도록 디스패처를 한 번만 깨움
+            audioJobDispatcher.wakeUp();
+
+            long created = results.stream().filter(r -> "created".equals(r.getStatus())).count();
+            long duplicates = results.stream().filter(r -> "duplicate".equals(r.getStatus())).count();
+            long failed = results.stream().filter(r -> "failed".equals(r.getStatus())).count();
+
+            response.put("success", failed == 0);
+            response.put("data", results);
+            response.put("created", created);
+            response.put("duplicates", duplicates);
+            response.put("failed", failed);
+            response.put("message", failed == 0
+                    ? "Audio records uploaded successfully. AI analysis in progress..."
+                    : failed + " of " + results.size() + " files failed to upload");
+
+            return ResponseEntity.status(created > 0 ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("Error batch uploading audio records", e);
+            response.put("success", false);
+            response.put("message", "Upload failed: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @Operation(summary = "S3 직접 업로드 URL 발급",
+            description = "반환된 uploadUrl로 파일을 PUT (Content-Type 헤더는 contentType과 같아야 함) 한 뒤 "
+                    + "/ward/{wardId}/upload-complete로 key를 보내면 레코드가 생성되고 AI 처리가 시작됨")
+    @PostMapping("/ward/{wardId}/upload-url")
+    public ResponseEntity<Map<String, Object>> createUploadUrl(
+            @PathVariable Integer wardId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam("contentType") String contentType
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            PresignedUploadDto upload = audioRecordService.createUploadUrl(wardId, fileName, contentType);
+            response.put("success", true);
+            response.put("data", upload);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("Error issuing upload URL", e);
+            response.put("success", false);
+            response.put("message", "Failed to issue upload URL: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @Operation(summary = "S3 직접 업로드 완료",
+            description = "업로드된 객체의 크기와 형식을 HEAD로 확인한 뒤 레코드를 만들고 AI 처리 대기열에 넣음")
+    @PostMapping("/ward/{wardId}/upload-complete")
+    public ResponseEntity<Map<String, Object>> completeDirectUpload(
+            @PathVariable Integer wardId,
+            @RequestParam("key") String key,
+            @RequestParam(value = "recordedAt", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd")
+            LocalDate recordedDate
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            LocalDateTime recordedAt = recordedDate != null
+                    ? recordedDate.atStartOfDay()
+                    : null;
+
+            AudioRecordDto result = audioRecordService.completeDirectUpload(wardId, key, recordedAt);
+            audioJobDispatcher.wakeUp();
+
+            response.put("success", true);
+            response.put("data", result);
+            if (result.isDuplicate()) {
+                response.put("message", "Upload was already completed.");
+                return ResponseEntity.ok(response);
+            }
+            response.put("message", "Audio record uploaded successfully. AI analysis in progress...");
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("Error completing direct upload", e);
+            response.put("success", false);
+            response.put("message", "Upload failed: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @Operation(summary = "오디오 레코드 조회")
     @GetMapping("/{recordId}")
     public ResponseEntity<Map<String, Object>> getRecordById(@PathVariable Integer recordId) {
@@ -86,6 +230,23 @@ public class AudioRecordController {
         }
     }
 
+    @Operation(summary = "오디오 레코드 처리 상태 구독 (SSE)",
+            description = "현재 상태를 바로 보내고 pending → processing → completed/failed 변경을 status 이벤트로 전송. "
+                    + "completed/failed 이후 스트림 종료")
+    @GetMapping(value = "/{recordId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeStatus(@PathVariable Integer recordId) {
+        List<AudioStatusEventDto> current = audioRecordService.getRecordStatuses(List.of(recordId));
+        if (current.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(audioStatusSseRegistry.subscribe(current.get(0)));
+        } catch (IllegalStateException e) {
+            log.warn("Rejecting status subscription - recordId: {}, reason: {}", recordId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @Operation(summary = "피보호자의 오디오 레코드 목록 조회")
     @GetMapping("/ward/{wardId}")
     public ResponseEntity<Map<String, Object>> getRecordsByWard(@PathVariable Integer wardId) {
@@ -125,6 +286,83 @@ public class AudioRecordController {
         }
     }
 
+    @Operation(summary = "피보호자별 처리 레인 대기 현황 조회")
+    @GetMapping("/processing/lanes")
+    public ResponseEntity<Map<String, Object>> getProcessingLanes() {
+        Map<Integer, Integer> depths = wardLaneExecutor.getQueueDepths();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("inFlight", audioJobDispatcher.getInFlight());
+        data.put("activeLanes", depths.size());
+        data.put("queued", depths.values().stream().mapToInt(Integer::intValue).sum());
+        data.put("laneDepths", depths);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "오디오 레코드 처리 타임라인 조회 (단계별 시작/종료/결과)")
+    @GetMapping("/{recordId}/timeline")
+    public ResponseEntity<Map<String, Object>> getTimeline(@PathVariable Integer recordId) {
+        try {
+            List<ProcessingEventDto> events = processingEventService.getTimeline(recordId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", events);
+            response.put("count", events.size());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Failed to fetch timeline");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @Operation(summary = "단계별 처리 시간 백분위 요약 (기본: 최근 24시간)")
+    @GetMapping("/processing/latency")
+    public ResponseEntity<Map<String, Object>> getLatencySummary(
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to,
+            @RequestParam(value = "wardId", required = false) Integer wardId
+    ) {
+        LocalDateTime windowEnd = to != null ? to : LocalDateTime.now();
+        LocalDateTime windowStart = from != null ? from : windowEnd.minusHours(24);
+        try {
+            List<StageLatencySummaryDto> stages = processingEventService.getStageSummary(windowStart, windowEnd, wardId);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("from", windowStart);
+            data.put("to", windowEnd);
+            data.put("wardId", wardId);
+            data.put("stages", stages);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", data);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("Error fetching latency summary", e);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Failed to fetch latency summary");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @Operation(summary = "오디오 레코드 동기 처리 (테스트용)")
     @PostMapping("/{recordId}/process-sync")
     public ResponseEntity<Map<String, Object>> processAudioSync(
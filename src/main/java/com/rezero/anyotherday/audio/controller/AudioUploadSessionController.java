@@ -0,0 +1,136 @@
+package com.rezero.anyotherday.audio.controller;
+
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.UploadSessionDto;
+import com.rezero.anyotherday.audio.service.AudioJobDispatcher;
+import com.rezero.anyotherday.audio.service.UploadSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/audio-records")
+@RequiredArgsConstructor
+@Tag(name = "Audio Upload Session", description = "끊겨도 이어서 보낼 수 있는 청크 업로드 API")
+public class AudioUploadSessionController {
+
+    private final UploadSessionService uploadSessionService;
+    private final AudioJobDispatcher audioJobDispatcher;
+
+    @Operation(summary = "이어받기 업로드 세션 생성",
+            description = "반환된 sessionId로 청크를 PUT 하고, 끊기면 세션 조회의 receivedBytes부터 이어서 전송")
+    @PostMapping("/ward/{wardId}/upload-sessions")
+    public ResponseEntity<Map<String, Object>> createSession(
+            @PathVariable Integer wardId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @RequestParam("totalBytes") long totalBytes,
+            @RequestParam(value = "recordedAt", required = false)
+            @DateTimeFormat(pattern = "yyyy-MM-dd")
+            LocalDate recordedDate
+    ) {
+        try {
+            LocalDateTime recordedAt = recordedDate != null
+                    ? recordedDate.atStartOfDay()
+                    : null;
+            UploadSessionDto session = uploadSessionService.createSession(wardId, fileName, contentType, totalBytes, recordedAt);
+            return ResponseEntity.status(HttpStatus.CREATED).body(success(session, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(failure(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error creating upload session", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(failure("Failed to create upload session: " + e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "업로드 세션 조회 (이어서 보낼 offset = receivedBytes)")
+    @GetMapping("/upload-sessions/{sessionId}")
+    public ResponseEntity<Map<String, Object>> getSession(@PathVariable String sessionId) {
+        UploadSessionDto session = uploadSessionService.getSession(sessionId);
+        if (session == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(failure("Upload session not found"));
+        }
+        return ResponseEntity.ok(success(session, null));
+    }
+
+    @Operation(summary = "청크 전송",
+            description = "본문은 파일의 [offset, offset + 길이) 구간 바이트. offset이 receivedBytes와 다르면 409")
+    @PutMapping(value = "/upload-sessions/{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> appendChunk(
+            @PathVariable String sessionId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request
+    ) {
+        try {
+            UploadSessionDto session = uploadSessionService.appendChunk(sessionId, offset, request.getInputStream());
+            return ResponseEntity.ok(success(session, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(failure(e.getMessage()));
+        } catch (IllegalStateException e) {
+            // 현재 offset을 함께 돌려줘 클라이언트가 바로 이어서 보낼 수 있게 함
+            Map<String, Object> response = failure(e.getMessage());
+            response.put("data", uploadSessionService.getSession(sessionId));
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            log.error("Error receiving chunk - sessionId: {}", sessionId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(failure("Failed to store chunk: " + e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "업로드 완료",
+            description = "모든 바이트를 받은 세션으로 오디오 레코드를 만들고 AI 처리 대기열에 넣음")
+    @PostMapping("/upload-sessions/{sessionId}/complete")
+    public ResponseEntity<Map<String, Object>> completeSession(@PathVariable String sessionId) {
+        try {
+            AudioRecordDto result = uploadSessionService.completeSession(sessionId);
+            audioJobDispatcher.wakeUp();
+            if (result.isDuplicate()) {
+                return ResponseEntity.ok(success(result, "Same audio file was already uploaded. Linked to existing record."));
+            }
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(success(result, "Audio record uploaded successfully. AI analysis in progress..."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(failure(e.getMessage()));
+        } catch (IllegalStateException e) {
+            Map<String, Object> response = failure(e.getMessage());
+            response.put("data", uploadSessionService.getSession(sessionId));
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            log.error("Error completing upload session - sessionId: {}", sessionId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(failure("Upload failed: " + e.getMessage()));
+        }
+    }
+
+    private static Map<String, Object> success(Object data, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+        if (message != null) {
+            response.put("message", message);
+        }
+        return response;
+    }
+
+    private static Map<String, Object> failure(String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        return response;
+    }
+}
@@ -0,0 +1,92 @@
+package com.rezero.anyotherday.audio.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rezero.anyotherday.audio.service.UploadAdmissionPolicy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 오디오 업로드 수용 제어 필터
+ * 멀티파트 본문은 DispatcherServlet에서 파싱되므로, 그 전에 필터에서 거절하면
+ * 파일 수신 / S3 업로드 / 레코드 생성 비용을 치르지 않음
+ */
+@Component
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String UPLOAD_PATH = "/api/v1/audio-records/ward/*";
+    private static final String BATCH_UPLOAD_PATH = "/api/v1/audio-records/ward/*/batch";
+    // S3 직접 업로드는 완료 요청 시점엔 이미 파일이 올라가 있으므로 URL 발급 단계에서 거절
+    private static final String UPLOAD_URL_PATH = "/api/v1/audio-records/ward/*/upload-url";
+    // 이어받기 업로드도 세션을 열 때 거절 (청크를 받기 시작한 뒤에는 끝까지 받음)
+    private static final String UPLOAD_SESSION_PATH = "/api/v1/audio-records/ward/*/upload-sessions";
+
+    private final UploadAdmissionPolicy uploadAdmissionPolicy;
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final ObjectMapper objectMapper;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final DefaultCorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    // MVC의 HandlerMappingIntrospector도 CorsConfigurationSource라서 CorsConfig의 빈을 지정
+    public UploadAdmissionFilter(UploadAdmissionPolicy uploadAdmissionPolicy,
+                                 @Qualifier("corsConfigurationSource") CorsConfigurationSource corsConfigurationSource,
+                                 ObjectMapper objectMapper) {
+        this.uploadAdmissionPolicy = uploadAdmissionPolicy;
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !(pathMatcher.match(UPLOAD_PATH, request.getServletPath())
+                        || pathMatcher.match(BATCH_UPLOAD_PATH, request.getServletPath())
+                        || pathMatcher.match(UPLOAD_URL_PATH, request.getServletPath())
+                        || pathMatcher.match(UPLOAD_SESSION_PATH, request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration retryAfter = uploadAdmissionPolicy.checkAdmission();
+        if (retryAfter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // MVC 밖에서 응답하므로 브라우저가 429와 Retry-After를 읽을 수 있게 CORS 헤더를 직접 붙임
+        CorsConfiguration cors = corsConfigurationSource.getCorsConfiguration(request);
+        if (cors != null && !corsProcessor.processRequest(cors, request, response)) {
+            return;
+        }
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", false);
+        body.put("message", "Audio pipeline is busy. Please retry later.");
+        body.put("retryAfterSeconds", retryAfter.toSeconds());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()));
+        // 읽지 않은 업로드 본문이 남아 있으므로 연결을 재사용하지 않음
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -1,8 +1,10 @@
 package com.rezero.anyotherday.audio.dao;
 
 import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -16,7 +18,69 @@ public interface AudioRecordDao {
 
     AudioRecordDto getLatestRecordByWardId(@Param("wardId") Integer wardId);
 
+    AudioRecordDto getRecordByContentHash(@Param("wardId") Integer wardId,
+            @Param("contentHash") String contentHash);
+
+    AudioRecordDto getRecordByFileUrl(@Param("wardId") Integer wardId,
+            @Param("fileUrl") String fileUrl);
+
+    int resetFailedRecord(@Param("recordId") Integer recordId);
+
     int updateStatus(@Param("recordId") Integer recordId,
+            @Param("status") String status,
+            @Param("errorMessage") String errorMessage,
+            @Param("leaseSeconds") int leaseSeconds);
+
+    // 여러 레코드의 현재 상태와 리포트 ID를 한 번에 조회 (SSE 구독 대상 동기화용)
+    List<AudioStatusEventDto> getRecordStatuses(@Param("recordIds") Collection<Integer> recordIds);
+
+    // ===== 작업 큐 =====
+
+    long countDuePendingRecords();
+
+    List<AudioRecordDto> selectClaimableRecords(@Param("limit") int limit);
+
+    int markClaimed(@Param("recordIds") List<Integer> recordIds,
+            @Param("workerId") String workerId,
+            @Param("leaseSeconds") int leaseSeconds);
+
+    int extendLease(@Param("recordId") Integer recordId,
+            @Param("workerId") String workerId,
+            @Param("leaseSeconds") int leaseSeconds);
+
+    int completeClaim(@Param("recordId") Integer recordId,
+            @Param("workerId") String workerId,
             @Param("status") String status,
             @Param("errorMessage") String errorMessage);
+
+    int scheduleRetry(@Param("recordId") Integer recordId,
+            @Param("workerId") String workerId,
+            @Param("delaySeconds") long delaySeconds,
+            @Param("errorMessage") String errorMessage);
+
+    int releaseClaim(@Param("recordId") Integer recordId,
+            @Param("workerId") String workerId,
+            @Param("delaySeconds") long delaySeconds);
+
+    // ===== 로컬 스풀 → S3 배송 =====
+
+    List<AudioRecordDto> selectSpooledRecords(@Param("spoolNode") String spoolNode,
+            @Param("limit") int limit);
+
+    int markShipped(@Param("recordId") Integer recordId,
+            @Param("fileUrl") String fileUrl);
+
+    int deferShipping(@Param("recordId") Integer recordId,
+            @Param("delaySeconds") long delaySeconds);
+
+    int markSpoolLost(@Param("recordId") Integer recordId,
+            @Param("errorMessage") String errorMessage);
+
+    // ===== 고아 작업 복구 =====
+
+    List<Integer> selectOrphanedRecordIds(@Param("limit") int limit);
+
+    int requeueOrphanedRecords(@Param("recordIds") List<Integer> recordIds,
+            @Param("delaySeconds") long delaySeconds,
+            @Param("maxAttempts") int maxAttempts);
 }
\ No newline at end of file
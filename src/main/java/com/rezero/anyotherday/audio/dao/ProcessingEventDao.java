@@ -0,0 +1,22 @@
+package com.rezero.anyotherday.audio.dao;
+
+import com.rezero.anyotherday.audio.dto.ProcessingEventDto;
+import com.rezero.anyotherday.audio.dto.StageLatencySummaryDto;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ProcessingEventDao {
+
+    // 한 번의 처리에서 나온 이벤트를 multi-row INSERT 한 번으로 저장
+    int insertEvents(@Param("events") List<ProcessingEventDto> events);
+
+    List<ProcessingEventDto> getEventsByRecordId(@Param("recordId") Integer recordId);
+
+    // 기간 내 단계별 소요 시간 요약 (건수 / 실패 / 평균 / 백분위 / 최대, stage 순)
+    List<StageLatencySummaryDto> getStageSummaries(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("wardId") Integer wardId);
+}
@@ -0,0 +1,31 @@
+package com.rezero.anyotherday.audio.dao;
+
+import com.rezero.anyotherday.audio.dto.UploadSessionDto;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+@Mapper
+public interface UploadSessionDao {
+
+    int createSession(@Param("session") UploadSessionDto session,
+            @Param("ttlSeconds") long ttlSeconds);
+
+    UploadSessionDto getSession(@Param("sessionId") String sessionId);
+
+    // 받은 바이트 수 갱신 - offset이 현재 값과 같을 때만 (동시에 온 청크는 한쪽만 반영)
+    int advanceOffset(@Param("sessionId") String sessionId,
+            @Param("expectedOffset") long expectedOffset,
+            @Param("receivedBytes") long receivedBytes,
+            @Param("ttlSeconds") long ttlSeconds);
+
+    int markCompleted(@Param("sessionId") String sessionId,
+            @Param("recordId") Integer recordId);
+
+    List<String> selectExpiredSessionIds(@Param("limit") int limit);
+
+    int markExpired(@Param("sessionIds") List<String> sessionIds);
+
+    // 주어진 세션 중 아직 open인 것 (노드 로컬 청크 파일 정리용)
+    List<String> selectOpenSessionIds(@Param("sessionIds") List<String> sessionIds);
+}
@@ -0,0 +1,26 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 파일 헤더에서 읽은 오디오 정보 (AudioHeaderParser)
+ * 헤더만으로 알 수 없는 값은 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AudioHeaderDto {
+
+    /**
+     * wav, mp3, m4a, ogg
+     */
+    private String format;
+
+    private Long durationMs;
+    private Integer sampleRate;
+    private Integer channels;
+}
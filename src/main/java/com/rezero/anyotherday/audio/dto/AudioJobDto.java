@@ -0,0 +1,44 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오디오 처리 작업 단위
+ * 작업 큐에서 점유(claim)한 레코드, 또는 동기 처리 요청을 나타냄
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AudioJobDto {
+
+    private Integer recordId;
+    private Integer wardId;
+
+    /**
+     * 레코드를 점유한 워커 ID
+     * 동기 처리(process-sync)처럼 큐를 거치지 않은 작업이면 null
+     */
+    private String workerId;
+
+    /**
+     * 지금까지 일시적 오류로 재시도한 횟수
+     */
+    private int attemptCount;
+
+    /**
+     * 이번 시도에서 모은 단계 이벤트 (처리가 끝나면 한 번에 저장)
+     */
+    @Builder.Default
+    private List<ProcessingEventDto> events = new ArrayList<>();
+
+    public boolean isLeased() {
+        return workerId != null;
+    }
+}
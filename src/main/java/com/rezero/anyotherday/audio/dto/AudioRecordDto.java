@@ -28,4 +28,26 @@ public class AudioRecordDto {
     private String errorMessage;
     private String fileFormat;
     private String transcriptText;
+
+    // 업로드 시 헤더에서 읽은 오디오 정보 (AudioHeaderParser, 알 수 없으면 null)
+    private Long durationMs;
+    private Integer sampleRate;
+    private Integer channels;
+
+    // 파일 내용 SHA-256 (같은 피보호자의 같은 파일 재업로드 판별)
+    private String contentHash;
+
+    // stored: S3에 있음, spooled: 로컬 스풀에만 있고 S3 배송 대기 중 (AI 처리 전 배송 필요)
+    // lost: 스풀 파일을 잃어 배송 불가 (레코드는 failed)
+    private String storageStatus;
+    private String spoolPath;
+    // 스풀 파일이 있는 노드 (audio.spool.node-id) - 그 노드만 배송
+    private String spoolNode;
+
+    // 이미 업로드된 파일이라 기존 레코드를 돌려준 경우 true (DB 컬럼 아님)
+    private boolean duplicate;
+
+    // 작업 큐 재시도 정보
+    private Integer attemptCount;
+    private LocalDateTime nextAttemptAt;
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오디오 레코드 처리 상태 변경 이벤트
+ * AudioProcessingServiceImpl이 발행하고 AudioStatusSseRegistry가 SSE 구독자에게 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AudioStatusEventDto {
+
+    private Integer recordId;
+    private Integer wardId;
+
+    /**
+     * pending, processing, completed, failed
+     */
+    private String status;
+
+    /**
+     * completed일 때 생성된 리포트 ID
+     */
+    private Integer reportId;
+
+    private String errorMessage;
+
+    public boolean isTerminal() {
+        return "completed".equals(status) || "failed".equals(status);
+    }
+}
@@ -0,0 +1,30 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 업로드의 파일별 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchUploadResultDto {
+
+    /**
+     * 요청의 files 순서 (0부터)
+     */
+    private int index;
+    private String fileName;
+
+    /**
+     * created, duplicate, failed
+     */
+    private String status;
+
+    private AudioRecordDto record;
+    private String message;
+}
@@ -0,0 +1,35 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 직접 업로드 안내
+ * 클라이언트는 uploadUrl로 파일을 PUT 한 뒤 key로 완료 요청을 보냄
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresignedUploadDto {
+
+    private String key;
+    private String uploadUrl;
+
+    /**
+     * 항상 PUT
+     */
+    private String method;
+
+    /**
+     * 서명에 포함된 Content-Type - PUT 요청에 같은 값을 헤더로 보내야 함
+     */
+    private String contentType;
+
+    private long maxBytes;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,39 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오디오 처리 단계 이벤트 (processing_event)
+ * 레코드 하나가 처리될 때 단계별로 언제 시작해 얼마나 걸렸는지 기록
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessingEventDto {
+
+    private Long eventId;
+    private Integer recordId;
+    private Integer wardId;
+
+    /**
+     * 몇 번째 시도인지 (1부터)
+     */
+    private Integer attempt;
+
+    private String stage;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private Long durationMs;
+
+    /**
+     * success, timeout, server_error, ... (AudioPipelineMetrics.outcomeOf 기준)
+     * total 단계는 작업 결과 (completed, retry, parked, failed, lease_lost)
+     */
+    private String outcome;
+}
@@ -0,0 +1,31 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단계별 소요 시간 분포 요약 (ms)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StageLatencySummaryDto {
+
+    private String stage;
+    private int count;
+
+    /**
+     * outcome이 success(또는 total 단계의 completed)가 아닌 건수
+     */
+    private int failures;
+
+    private long avgMs;
+    private long p50Ms;
+    private long p90Ms;
+    private long p95Ms;
+    private long p99Ms;
+    private long maxMs;
+}
@@ -0,0 +1,50 @@
+package com.rezero.anyotherday.audio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어받기 업로드 세션 (upload_session 테이블)
+ * 클라이언트는 receivedBytes를 offset으로 삼아 남은 청크를 이어서 보냄
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionDto {
+
+    private String sessionId;
+    private Integer wardId;
+
+    private String fileName;
+    private String contentType;
+    private LocalDateTime recordedAt;
+
+    private long totalBytes;
+
+    /**
+     * 지금까지 받은 바이트 수 = 다음 청크의 offset
+     */
+    private long receivedBytes;
+
+    /**
+     * open, completed, expired
+     */
+    private String status;
+
+    /**
+     * completed일 때 생성된 오디오 레코드 ID
+     */
+    private Integer recordId;
+
+    // 권장 청크 크기 (DB 컬럼 아님)
+    private Integer chunkSize;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime expiresAt;
+}
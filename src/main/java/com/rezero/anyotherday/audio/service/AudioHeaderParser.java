@@ -0,0 +1,483 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.AudioHeaderDto;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 오디오 컨테이너 헤더 검사
+ * 확장자가 아니라 파일 앞부분(필요하면 특정 위치의 몇 KB)만 읽어 WAV / MP3 / M4A(MP4) / OGG 인지 확인하고
+ * 길이, 샘플레이트, 채널 수를 추출한다. 오디오가 아니거나 헤더가 깨진 파일은 IllegalArgumentException
+ * (S3 업로드, AI 호출 전에 거절하기 위해 업로드 경로에서 호출)
+ */
+@Component
+public class AudioHeaderParser {
+
+    private static final int HEAD_BYTES = 64 * 1024;
+    private static final int TAIL_BYTES = 64 * 1024;
+
+    // MP4 moov 박스는 샘플 테이블 때문에 클 수 있어 상한까지만 읽음
+    private static final int MAX_MOOV_BYTES = 1024 * 1024;
+    private static final int MAX_TOP_LEVEL_BOXES = 64;
+
+    // MP3 첫 프레임을 찾는 범위 (앞에 붙은 쓰레기 바이트 허용, 그 이상이면 MP3로 보지 않음)
+    private static final int MP3_SYNC_WINDOW = 4 * 1024;
+
+    private static final Set<String> MP4_AUDIO_ENTRIES = Set.of(
+            "mp4a", "alac", "Opus", "fLaC", "ac-3", "ec-3", "samr", "sawb", "ulaw", "alaw", "lpcm", "sowt", "twos");
+
+    /**
+     * 임의 위치를 읽을 수 있는 파일 내용 (MultipartFile, S3 객체 등)
+     */
+    public interface ByteSource {
+        long size();
+
+        // offset부터 최대 length 바이트 (파일 끝이면 더 짧을 수 있음)
+        byte[] read(long offset, int length) throws IOException;
+    }
+
+    public static ByteSource of(MultipartFile file) {
+        return new ByteSource() {
+            @Override
+            public long size() {
+                return file.getSize();
+            }
+
+            @Override
+            public byte[] read(long offset, int length) throws IOException {
+                if (offset >= file.getSize()) {
+                    return new byte[0];
+                }
+                // 멀티파트는 디스크/메모리에 있으므로 skip은 탐색에 가까움
+                try (InputStream in = file.getInputStream()) {
+                    in.skipNBytes(offset);
+                    return in.readNBytes(length);
+                }
+            }
+        };
+    }
+
+    public AudioHeaderDto parse(MultipartFile file) {
+        return parse(of(file));
+    }
+
+    public AudioHeaderDto parse(ByteSource source) {
+        try {
+            long size = source.size();
+            if (size <= 0) {
+                throw new IllegalArgumentException("File is empty");
+            }
+            byte[] head = source.read(0, (int) Math.min(HEAD_BYTES, size));
+            if (head.length >= 12 && ascii(head, 0, 4).equals("RIFF") && ascii(head, 8, 4).equals("WAVE")) {
+                return parseWav(head, size);
+            }
+            if (head.length >= 8 && ascii(head, 4, 4).equals("ftyp")) {
+                return parseMp4(source, size);
+            }
+            if (head.length >= 4 && ascii(head, 0, 4).equals("OggS")) {
+                return parseOgg(source, head, size);
+            }
+            if (head.length >= 3 && ascii(head, 0, 3).equals("ID3") || findMp3Frame(head, 0) >= 0) {
+                return parseMp3(source, head, size);
+            }
+            throw new IllegalArgumentException("Unsupported or corrupt audio file (expected WAV, MP3, M4A or OGG)");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read audio header: " + e.getMessage(), e);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt audio header: truncated", e);
+        }
+    }
+
+    /**
+     * 업로드 파일 이름의 확장자가 감지한 형식과 맞으면 그대로, 아니면 형식의 기본 확장자
+     */
+    public static String extensionFor(AudioHeaderDto header, String fileExtension) {
+        String ext = fileExtension == null ? "" : fileExtension.toLowerCase();
+        return switch (header.getFormat()) {
+            case "wav" -> Set.of("wav", "wave").contains(ext) ? ext : "wav";
+            case "mp3" -> "mp3";
+            case "m4a" -> Set.of("m4a", "mp4", "aac").contains(ext) ? ext : "m4a";
+            case "ogg" -> Set.of("ogg", "oga", "opus").contains(ext) ? ext : "ogg";
+            default -> ext;
+        };
+    }
+
+    // ===== WAV =====
+
+    private AudioHeaderDto parseWav(byte[] head, long size) {
+        Integer channels = null;
+        Integer sampleRate = null;
+        long byteRate = 0;
+        int offset = 12;
+        while (offset + 8 <= head.length) {
+            String id = ascii(head, offset, 4);
+            long chunkSize = u32le(head, offset + 4);
+            int body = offset + 8;
+            if (id.equals("fmt ")) {
+                if (chunkSize < 16) {
+                    throw new IllegalArgumentException("Corrupt WAV header: fmt chunk too short");
+                }
+                channels = u16le(head, body + 2);
+                sampleRate = (int) u32le(head, body + 4);
+                byteRate = u32le(head, body + 8);
+            } else if (id.equals("data")) {
+                if (channels == null || channels == 0 || sampleRate == 0 || byteRate == 0) {
+                    throw new IllegalArgumentException("Corrupt WAV header: missing or invalid fmt chunk");
+                }
+                // 스트리밍 녹음기는 data 크기를 0 / 0xFFFFFFFF로 남기기도 하므로 실제 파일 크기로 보정
+                long dataBytes = chunkSize == 0 || body + chunkSize > size ? size - body : chunkSize;
+                return AudioHeaderDto.builder()
+                        .format("wav")
+                        .channels(channels)
+                        .sampleRate(sampleRate)
+                        .durationMs(dataBytes * 1000 / byteRate)
+                        .build();
+            }
+            offset = body + (int) Math.min(chunkSize + (chunkSize & 1), Integer.MAX_VALUE - body);
+        }
+        throw new IllegalArgumentException("Corrupt WAV header: no data chunk in the first " + head.length + " bytes");
+    }
+
+    // ===== MP3 =====
+
+    private static final int[][] MP3_BITRATES = {
+            // MPEG-1 Layer I, II, III
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448},
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},
+            // MPEG-2/2.5 Layer I, II/III
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160},
+    };
+
+    private static final int[][] MP3_SAMPLE_RATES = {
+            {11025, 12000, 8000},   // MPEG-2.5
+            {0, 0, 0},              // reserved
+            {22050, 24000, 16000},  // MPEG-2
+            {44100, 48000, 32000},  // MPEG-1
+    };
+
+    private AudioHeaderDto parseMp3(ByteSource source, byte[] head, long size) throws IOException {
+        // ID3v2 태그 뒤에서 첫 프레임을 찾음 (앨범 아트가 있으면 태그가 head보다 클 수 있음)
+        long audioStart = 0;
+        if (ascii(head, 0, 3).equals("ID3")) {
+            if (head.length < 10) {
+                throw new IllegalArgumentException("Corrupt MP3 header: truncated ID3 tag");
+            }
+            long tagSize = ((head[6] & 0x7F) << 21) | ((head[7] & 0x7F) << 14) | ((head[8] & 0x7F) << 7) | (head[9] & 0x7F);
+            audioStart = 10 + tagSize + ((head[5] & 0x10) != 0 ? 10 : 0);
+            if (audioStart >= size) {
+                throw new IllegalArgumentException("Corrupt MP3: ID3 tag without audio frames");
+            }
+        }
+        byte[] frames = audioStart == 0 ? head : source.read(audioStart, HEAD_BYTES);
+        int first = findMp3Frame(frames, 0);
+        if (first < 0) {
+            throw new IllegalArgumentException("Corrupt MP3: no valid frame header found");
+        }
+        Mp3Frame frame = Mp3Frame.decode(frames, first);
+        audioStart += first;
+
+        // Xing/Info (VBR) 또는 VBRI 헤더가 있으면 전체 프레임 수로 정확한 길이 계산
+        Long frameCount = null;
+        int sideInfo = frame.version == 3 ? (frame.channels == 1 ? 17 : 32) : (frame.channels == 1 ? 9 : 17);
+        int xing = first + 4 + sideInfo;
+        int vbri = first + 4 + 32;
+        if (xing + 12 <= frames.length
+                && (ascii(frames, xing, 4).equals("Xing") || ascii(frames, xing, 4).equals("Info"))
+                && (u32be(frames, xing + 4) & 1) != 0) {
+            frameCount = u32be(frames, xing + 8);
+        } else if (vbri + 18 <= frames.length && ascii(frames, vbri, 4).equals("VBRI")) {
+            frameCount = u32be(frames, vbri + 14);
+        }
+
+        long durationMs;
+        if (frameCount != null && frameCount > 0) {
+            durationMs = frameCount * frame.samplesPerFrame * 1000 / frame.sampleRate;
+        } else {
+            // CBR 가정 - 오디오 바이트 수 / 비트레이트
+            durationMs = (size - audioStart) * 8 / frame.bitrateKbps;
+        }
+        return AudioHeaderDto.builder()
+                .format("mp3")
+                .channels(frame.channels)
+                .sampleRate(frame.sampleRate)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * 연속된 두 프레임 헤더가 맞는 첫 위치 (우연히 0xFFE 패턴이 나온 바이너리를 MP3로 오인하지 않도록)
+     * 다음 헤더를 확인할 수 없는 경우는 프레임이 파일 끝까지 온전히 들어 있을 때만 인정
+     * (한 프레임보다 작은 파일의 우연한 sync 패턴은 거절)
+     */
+    static int findMp3Frame(byte[] data, int from) {
+        for (int i = from; i + 4 <= data.length && i < from + MP3_SYNC_WINDOW; i++) {
+            Mp3Frame frame = Mp3Frame.tryDecode(data, i);
+            if (frame == null) {
+                continue;
+            }
+            int next = i + frame.length;
+            if (next > data.length) {
+                continue;
+            }
+            if (next + 4 > data.length || Mp3Frame.tryDecode(data, next) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Mp3Frame {
+        int version;        // 0 = 2.5, 2 = 2, 3 = 1
+        int sampleRate;
+        int bitrateKbps;
+        int channels;
+        int samplesPerFrame;
+        int length;
+
+        static Mp3Frame decode(byte[] data, int offset) {
+            Mp3Frame frame = tryDecode(data, offset);
+            if (frame == null) {
+                throw new IllegalArgumentException("Corrupt MP3 frame header");
+            }
+            return frame;
+        }
+
+        static Mp3Frame tryDecode(byte[] data, int offset) {
+            int b1 = data[offset] & 0xFF;
+            int b2 = data[offset + 1] & 0xFF;
+            int b3 = data[offset + 2] & 0xFF;
+            int b4 = data[offset + 3] & 0xFF;
+            if (b1 != 0xFF || (b2 & 0xE0) != 0xE0) {
+                return null;
+            }
+            int version = (b2 >> 3) & 0x03;
+            int layer = (b2 >> 1) & 0x03;        // 3 = Layer I, 2 = II, 1 = III
+            int bitrateIndex = (b3 >> 4) & 0x0F;
+            int sampleRateIndex = (b3 >> 2) & 0x03;
+            int padding = (b3 >> 1) & 0x01;
+            if (version == 1 || layer == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+                return null;
+            }
+            int table = version == 3 ? 3 - layer : (layer == 3 ? 3 : 4);
+
+            Mp3Frame frame = new Mp3Frame();
+            frame.version = version;
+            frame.sampleRate = MP3_SAMPLE_RATES[version][sampleRateIndex];
+            frame.bitrateKbps = MP3_BITRATES[table][bitrateIndex];
+            frame.channels = ((b4 >> 6) & 0x03) == 3 ? 1 : 2;
+            if (layer == 3) {
+                frame.samplesPerFrame = 384;
+                frame.length = (12 * frame.bitrateKbps * 1000 / frame.sampleRate + padding) * 4;
+            } else {
+                frame.samplesPerFrame = layer == 1 && version != 3 ? 576 : 1152;
+                frame.length = frame.samplesPerFrame / 8 * frame.bitrateKbps * 1000 / frame.sampleRate + padding;
+            }
+            return frame;
+        }
+    }
+
+    // ===== M4A / MP4 =====
+
+    private AudioHeaderDto parseMp4(ByteSource source, long size) throws IOException {
+        // 최상위 박스 헤더만 따라가며 moov 위치를 찾음 (moov가 파일 끝에 있어도 mdat을 읽지 않음)
+        long offset = 0;
+        for (int i = 0; i < MAX_TOP_LEVEL_BOXES && offset + 8 <= size; i++) {
+            byte[] header = source.read(offset, 16);
+            long boxSize = u32be(header, 0);
+            String type = ascii(header, 4, 4);
+            int headerSize = 8;
+            if (boxSize == 1) {
+                boxSize = u64be(header, 8);
+                headerSize = 16;
+            } else if (boxSize == 0) {
+                boxSize = size - offset;
+            }
+            if (boxSize < headerSize || offset + boxSize > size) {
+                throw new IllegalArgumentException("Corrupt MP4: invalid '" + type + "' box size");
+            }
+            if (type.equals("moov")) {
+                byte[] moov = source.read(offset + headerSize, (int) Math.min(boxSize - headerSize, MAX_MOOV_BYTES));
+                return parseMoov(moov);
+            }
+            offset += boxSize;
+        }
+        throw new IllegalArgumentException("Corrupt MP4: no moov box");
+    }
+
+    private AudioHeaderDto parseMoov(byte[] moov) {
+        Long durationMs = null;
+        int mvhd = findBox(moov, 0, moov.length, "mvhd");
+        if (mvhd >= 0) {
+            int version = moov[mvhd + 8] & 0xFF;
+            long timescale = version == 1 ? u32be(moov, mvhd + 8 + 20) : u32be(moov, mvhd + 8 + 12);
+            long duration = version == 1 ? u64be(moov, mvhd + 8 + 24) : u32be(moov, mvhd + 8 + 16);
+            if (timescale > 0) {
+                durationMs = duration * 1000 / timescale;
+            }
+        }
+
+        // hdlr가 'soun'인 trak의 첫 샘플 엔트리(AudioSampleEntry)에서 채널 수 / 샘플레이트
+        for (int trak = findBox(moov, 0, moov.length, "trak"); trak >= 0;
+             trak = findBox(moov, trak + boxSize(moov, trak), moov.length, "trak")) {
+            int trakEnd = trak + boxSize(moov, trak);
+            int mdia = findBox(moov, trak + 8, trakEnd, "mdia");
+            if (mdia < 0) {
+                continue;
+            }
+            int mdiaEnd = mdia + boxSize(moov, mdia);
+            int hdlr = findBox(moov, mdia + 8, mdiaEnd, "hdlr");
+            if (hdlr < 0 || !ascii(moov, hdlr + 16, 4).equals("soun")) {
+                continue;
+            }
+            int stsd = findPath(moov, mdia + 8, mdiaEnd, "minf", "stbl", "stsd");
+            if (stsd < 0) {
+                break;
+            }
+            // stsd: 헤더(8) + version/flags(4) + entry_count(4), 첫 엔트리: size(4) + type(4) + reserved(6) + data_ref(2)
+            int entry = stsd + 16;
+            String codec = ascii(moov, entry + 4, 4);
+            if (!MP4_AUDIO_ENTRIES.contains(codec)) {
+                throw new IllegalArgumentException("Unsupported MP4 audio codec: " + codec);
+            }
+            int channels = u16be(moov, entry + 8 + 8 + 8);
+            int sampleRate = (int) (u32be(moov, entry + 8 + 8 + 16) >>> 16);
+            return AudioHeaderDto.builder()
+                    .format("m4a")
+                    .channels(channels > 0 ? channels : null)
+                    .sampleRate(sampleRate > 0 ? sampleRate : null)
+                    .durationMs(durationMs)
+                    .build();
+        }
+        throw new IllegalArgumentException("MP4 file has no audio track");
+    }
+
+    private static int findPath(byte[] data, int from, int to, String... path) {
+        int box = -1;
+        for (String type : path) {
+            box = findBox(data, from, to, type);
+            if (box < 0) {
+                return -1;
+            }
+            from = box + 8;
+            to = box + boxSize(data, box);
+        }
+        return box;
+    }
+
+    private static int findBox(byte[] data, int from, int to, String type) {
+        int offset = from;
+        while (offset + 8 <= Math.min(to, data.length)) {
+            int size = boxSize(data, offset);
+            if (size < 8) {
+                return -1;
+            }
+            if (ascii(data, offset + 4, 4).equals(type)) {
+                return offset;
+            }
+            offset += size;
+        }
+        return -1;
+    }
+
+    private static int boxSize(byte[] data, int offset) {
+        long size = u32be(data, offset);
+        return size > Integer.MAX_VALUE ? -1 : (int) size;
+    }
+
+    // ===== OGG =====
+
+    private AudioHeaderDto parseOgg(ByteSource source, byte[] head, long size) throws IOException {
+        if (head.length < 28 || head[4] != 0) {
+            throw new IllegalArgumentException("Corrupt Ogg page header");
+        }
+        long serial = u32le(head, 14);
+        int segments = head[26] & 0xFF;
+        int packet = 27 + segments;
+        if (packet + 19 > head.length) {
+            throw new IllegalArgumentException("Corrupt Ogg: truncated first page");
+        }
+
+        Integer channels = null;
+        Integer sampleRate = null;
+        long granuleRate;
+        long preSkip = 0;
+        if (head[packet] == 0x01 && ascii(head, packet + 1, 6).equals("vorbis")) {
+            channels = head[packet + 11] & 0xFF;
+            sampleRate = (int) u32le(head, packet + 12);
+            granuleRate = sampleRate;
+        } else if (ascii(head, packet, 8).equals("OpusHead")) {
+            channels = head[packet + 9] & 0xFF;
+            preSkip = u16le(head, packet + 10);
+            long inputRate = u32le(head, packet + 12);
+            sampleRate = inputRate > 0 ? (int) inputRate : 48000;
+            granuleRate = 48000; // Opus granule은 항상 48kHz 기준
+        } else {
+            throw new IllegalArgumentException("Unsupported Ogg codec (expected Vorbis or Opus)");
+        }
+        if (channels == 0 || sampleRate == 0) {
+            throw new IllegalArgumentException("Corrupt Ogg codec header");
+        }
+
+        // 길이 = 마지막 페이지의 granule position (파일 끝 몇 KB만 읽음)
+        Long durationMs = null;
+        long tailStart = Math.max(0, size - TAIL_BYTES);
+        byte[] tail = source.read(tailStart, (int) (size - tailStart));
+        for (int i = tail.length - 27; i >= 0; i--) {
+            if (tail[i] == 'O' && ascii(tail, i, 4).equals("OggS") && u32le(tail, i + 14) == serial) {
+                // 패킷이 끝나지 않은 페이지는 granule이 -1이므로 그 앞 페이지를 봄
+                long granule = u64le(tail, i + 6);
+                if (granule > preSkip) {
+                    durationMs = (granule - preSkip) * 1000 / granuleRate;
+                    break;
+                }
+            }
+        }
+        return AudioHeaderDto.builder()
+                .format("ogg")
+                .channels(channels)
+                .sampleRate(sampleRate)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    // ===== byte helpers =====
+
+    private static String ascii(byte[] data, int offset, int length) {
+        if (offset < 0 || offset + length > data.length) {
+            return "";
+        }
+        return new String(Arrays.copyOfRange(data, offset, offset + length), StandardCharsets.ISO_8859_1);
+    }
+
+    private static int u16le(byte[] d, int o) {
+        return (d[o] & 0xFF) | (d[o + 1] & 0xFF) << 8;
+    }
+
+    private static long u32le(byte[] d, int o) {
+        return (d[o] & 0xFFL) | (d[o + 1] & 0xFFL) << 8 | (d[o + 2] & 0xFFL) << 16 | (d[o + 3] & 0xFFL) << 24;
+    }
+
+    private static long u64le(byte[] d, int o) {
+        return u32le(d, o) | u32le(d, o + 4) << 32;
+    }
+
+    private static int u16be(byte[] d, int o) {
+        return (d[o] & 0xFF) << 8 | (d[o + 1] & 0xFF);
+    }
+
+    private static long u32be(byte[] d, int o) {
+        return (d[o] & 0xFFL) << 24 | (d[o + 1] & 0xFFL) << 16 | (d[o + 2] & 0xFFL) << 8 | (d[o + 3] & 0xFFL);
+    }
+
+    private static long u64be(byte[] d, int o) {
+        return u32be(d, o) << 32 | u32be(d, o + 4);
+    }
+}
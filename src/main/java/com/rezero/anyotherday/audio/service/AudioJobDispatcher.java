@@ -0,0 +1,173 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.ai.service.AICircuitBreaker;
+import com.rezero.anyotherday.audio.dto.AudioJobDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 큐 디스패처
+ * 주기적으로(또는 업로드 직후 wakeUp으로) 큐에서 작업을 점유해 ward별 레인(WardLaneExecutor)에 넘긴다.
+ * 노드당 동시 처리 개수는 max-in-flight로 제한하고, 남은 자리만큼만 점유하므로
+ * 메모리 큐가 넘쳐 작업이 유실되는 일이 없다.
+ */
+@Slf4j
+@Component
+public class AudioJobDispatcher {
+
+    private final AudioJobQueueService audioJobQueueService;
+    private final AudioProcessingService audioProcessingService;
+    private final WardLaneExecutor wardLaneExecutor;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final AudioPipelineMetrics audioPipelineMetrics;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "audio-job-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${audio.queue.enabled:true}")
+    private boolean enabled;
+
+    // 노드당 동시에 처리할 최대 작업 수
+    // virtual 모드에서는 ai.executor.virtual.max-concurrency보다 작으면 그 값으로 올림
+    @Value("${audio.queue.max-in-flight:10}")
+    private int maxInFlight;
+
+    @Value("${ai.executor.mode:platform}")
+    private String executorMode;
+
+    @Value("${ai.executor.virtual.max-concurrency:200}")
+    private int virtualMaxConcurrency;
+
+    // 한 번에 점유할 최대 작업 수
+    @Value("${audio.queue.batch-size:10}")
+    private int batchSize;
+
+    @Value("${audio.queue.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    // 작업 하나의 처리 시간 예산 (레인 대기 + DB 조회 + AI 호출 + 저장)
+    @Value("${audio.pipeline.deadline-ms:360000}")
+    private long deadlineMs;
+
+    public AudioJobDispatcher(AudioJobQueueService audioJobQueueService,
+                              AudioProcessingService audioProcessingService,
+                              WardLaneExecutor wardLaneExecutor,
+                              AICircuitBreaker aiCircuitBreaker,
+                              AudioPipelineMetrics audioPipelineMetrics) {
+        this.audioJobQueueService = audioJobQueueService;
+        this.audioProcessingService = audioProcessingService;
+        this.wardLaneExecutor = wardLaneExecutor;
+        this.aiCircuitBreaker = aiCircuitBreaker;
+        this.audioPipelineMetrics = audioPipelineMetrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 점유 개수가 실행기의 동시 실행 한도보다 작으면 가상 스레드 세마포어까지 갈 작업이 없음
+        if ("virtual".equalsIgnoreCase(executorMode) && maxInFlight < virtualMaxConcurrency) {
+            log.info("Raising audio.queue.max-in-flight from {} to the virtual executor cap {}",
+                    maxInFlight, virtualMaxConcurrency);
+            maxInFlight = virtualMaxConcurrency;
+        }
+        if (!enabled) {
+            log.warn("Audio job queue is disabled - uploads will stay pending");
+            return;
+        }
+        log.info("Audio job dispatcher started - maxInFlight: {}, batchSize: {}, pollInterval: {}ms",
+                maxInFlight, batchSize, pollIntervalMs);
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        poller.shutdownNow();
+    }
+
+    /**
+     * 다음 폴링 주기를 기다리지 않고 바로 큐 확인
+     * 업로드 직후나 작업 완료로 자리가 났을 때 호출
+     */
+    public void wakeUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            poller.execute(this::poll);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * 빈 자리만큼 작업을 점유해서 실행
+     * poller 스레드 하나에서만 실행됨
+     */
+    private void poll() {
+        // AI 서버 장애로 서킷이 열려 있으면 점유해봐야 바로 보류되므로 건너뜀
+        if (aiCircuitBreaker.isOpen()) {
+            return;
+        }
+        try {
+            int capacity = maxInFlight - inFlight.get();
+            while (capacity > 0) {
+                int requested = Math.min(capacity, batchSize);
+                List<AudioJobDto> jobs = audioJobQueueService.claim(requested);
+                for (AudioJobDto job : jobs) {
+                    dispatch(job);
+                }
+                if (jobs.size() < requested) {
+                    break;
+                }
+                capacity = maxInFlight - inFlight.get();
+            }
+        } catch (Exception e) {
+            log.error("Audio job polling failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(AudioJobDto job) {
+        ProcessingDeadline deadline = ProcessingDeadline.after(Duration.ofMillis(deadlineMs));
+        inFlight.incrementAndGet();
+        try {
+            // 같은 ward의 작업은 점유 순서(record_id 순)대로 하나씩 실행
+            wardLaneExecutor.execute(job.getWardId(), () -> {
+                try {
+                    audioProcessingService.processClaimedJob(job, deadline);
+                } finally {
+                    inFlight.decrementAndGet();
+                    wakeUp();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 실행기가 가득 찼으면 점유를 반납해 다음 주기(또는 다른 노드)가 처리하도록 함
+            inFlight.decrementAndGet();
+            log.warn("Executor rejected audio job - recordId: {}", job.getRecordId());
+            audioPipelineMetrics.incrementRejected();
+            audioJobQueueService.release(job);
+        }
+    }
+}
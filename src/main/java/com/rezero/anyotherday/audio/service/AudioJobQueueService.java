@@ -0,0 +1,52 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.AudioJobDto;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * audio_record 테이블 기반의 영속 작업 큐
+ * 업로드 시 pending으로 저장된 레코드가 곧 큐에 들어간 작업이며,
+ * 워커는 SELECT ... FOR UPDATE SKIP LOCKED로 배치 단위 점유 후 리스(lease) 안에서 처리한다.
+ * 리스가 만료된 작업은 다른 워커(노드)가 다시 점유할 수 있다.
+ */
+public interface AudioJobQueueService {
+
+    /**
+     * 처리 가능한 작업을 최대 limit개 점유
+     *
+     * @param limit 최대 점유 개수
+     * @return 점유한 작업 목록 (없으면 빈 리스트)
+     */
+    List<AudioJobDto> claim(int limit);
+
+    /**
+     * 점유 중인 작업의 리스 연장
+     *
+     * @return 아직 이 워커가 점유 중이면 true, 다른 워커에게 넘어갔으면 false
+     */
+    boolean extendLease(AudioJobDto job);
+
+    /**
+     * 작업을 최종 상태(completed/failed)로 마무리하고 점유 해제
+     */
+    void complete(AudioJobDto job, String status, String errorMessage);
+
+    /**
+     * 일시적 오류로 실패한 작업을 delay 후 다시 시도하도록 예약 (시도 횟수 증가)
+     * 대기하는 동안 워커 스레드를 잡고 있지 않음
+     */
+    void scheduleRetry(AudioJobDto job, Duration delay, String errorMessage);
+
+    /**
+     * 처리하지 못한 작업을 다시 pending으로 반납
+     */
+    void release(AudioJobDto job);
+
+    /**
+     * 작업을 pending으로 되돌리되 delay가 지난 뒤에 다시 점유되도록 미룸
+     * AI 서버가 바쁘거나 장애일 때 작업을 실패 처리하지 않고 보류하는 용도
+     */
+    void park(AudioJobDto job, Duration delay);
+}
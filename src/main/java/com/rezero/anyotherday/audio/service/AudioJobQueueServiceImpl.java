@@ -0,0 +1,106 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import com.rezero.anyotherday.audio.dto.AudioJobDto;
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioJobQueueServiceImpl implements AudioJobQueueService {
+
+    private final AudioRecordDao audioRecordDao;
+
+    // 노드(프로세스)마다 고유한 워커 ID
+    private final String workerId = resolveWorkerId();
+
+    // AI 타임아웃(300초)보다 충분히 길게 잡아야 처리 중인 작업을 다른 노드가 가로채지 않음
+    @Value("${audio.queue.lease-seconds:600}")
+    private int leaseSeconds;
+
+    @Override
+    @Transactional
+    public List<AudioJobDto> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<AudioRecordDto> records = audioRecordDao.selectClaimableRecords(limit);
+        if (records.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> recordIds = records.stream()
+                .map(AudioRecordDto::getRecordId)
+                .toList();
+        audioRecordDao.markClaimed(recordIds, workerId, leaseSeconds);
+        log.info("Claimed {} audio job(s) - workerId: {}, recordIds: {}", recordIds.size(), workerId, recordIds);
+
+        return records.stream()
+                .map(record -> AudioJobDto.builder()
+                        .recordId(record.getRecordId())
+                        .wardId(record.getWardId())
+                        .workerId(workerId)
+                        .attemptCount(record.getAttemptCount() != null ? record.getAttemptCount() : 0)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public boolean extendLease(AudioJobDto job) {
+        return audioRecordDao.extendLease(job.getRecordId(), job.getWorkerId(), leaseSeconds) == 1;
+    }
+
+    @Override
+    public void complete(AudioJobDto job, String status, String errorMessage) {
+        int affected = audioRecordDao.completeClaim(job.getRecordId(), job.getWorkerId(), status, errorMessage);
+        if (affected != 1) {
+            log.warn("Lease lost before completion - recordId: {}, status: {}", job.getRecordId(), status);
+        }
+    }
+
+    @Override
+    public void scheduleRetry(AudioJobDto job, Duration delay, String errorMessage) {
+        long delaySeconds = Math.max(1, delay.toSeconds());
+        int affected = audioRecordDao.scheduleRetry(job.getRecordId(), job.getWorkerId(), delaySeconds, errorMessage);
+        if (affected != 1) {
+            log.warn("Lease lost before scheduling retry - recordId: {}", job.getRecordId());
+            return;
+        }
+        log.info("Audio job retry scheduled - recordId: {}, attempt: {}, retry in {}s",
+                job.getRecordId(), job.getAttemptCount() + 1, delaySeconds);
+    }
+
+    @Override
+    public void release(AudioJobDto job) {
+        audioRecordDao.releaseClaim(job.getRecordId(), job.getWorkerId(), 0);
+        log.info("Audio job released back to queue - recordId: {}", job.getRecordId());
+    }
+
+    @Override
+    public void park(AudioJobDto job, Duration delay) {
+        long delaySeconds = Math.max(1, delay.toSeconds());
+        audioRecordDao.releaseClaim(job.getRecordId(), job.getWorkerId(), delaySeconds);
+        log.info("Audio job parked - recordId: {}, retry in {}s", job.getRecordId(), delaySeconds);
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,99 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.ai.service.AICircuitBreaker;
+import com.rezero.anyotherday.ai.service.AIUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오디오 파이프라인 Micrometer 지표 기록
+ *  - audio.pipeline.stage{stage, outcome}: 단계별 소요 시간 (히스토그램)
+ *  - audio.pipeline.job{outcome}: 작업 한 번 처리에 걸린 전체 시간
+ *  - audio.pipeline.upload.to.report: 업로드부터 리포트 저장까지 걸린 시간
+ *  - ai.diagnose.calls{outcome}: AI 서버 호출 결과별 횟수와 소요 시간 (동시성 대기 제외)
+ *  - audio.jobs.rejected: 실행기가 거부해 큐로 되돌린 작업 수
+ * 실행기/레인/리미터 게이지는 MetricsConfig에서 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class AudioPipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordStage(String stage, long elapsedNanos, String outcome) {
+        Timer.builder("audio.pipeline.stage")
+                .description("Audio pipeline stage latency")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordJob(String outcome, long elapsedNanos) {
+        Timer.builder("audio.pipeline.job")
+                .description("Audio job processing time per attempt")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUploadToReport(Duration elapsed) {
+        if (elapsed.isNegative()) {
+            return;
+        }
+        Timer.builder("audio.pipeline.upload.to.report")
+                .description("Time from audio upload to saved AI report")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    public void recordAiCall(String outcome, long elapsedNanos) {
+        Timer.builder("ai.diagnose.calls")
+                .description("AI server diagnose calls by outcome")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void incrementRejected() {
+        Counter.builder("audio.jobs.rejected")
+                .description("Audio jobs rejected by the executor and released back to the queue")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 예외를 지표 태그용 결과 이름으로 분류
+     */
+    public static String outcomeOf(Throwable e) {
+        if (e == null) {
+            return "success";
+        }
+        if (e instanceof AIUnavailableException) {
+            return "unavailable";
+        }
+        if (e instanceof DeadlineExceededException) {
+            return "deadline_exceeded";
+        }
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException) {
+                return "timeout";
+            }
+        }
+        if (AICircuitBreaker.isServerFailure(e)) {
+            return "server_error";
+        }
+        return "error";
+    }
+}
@@ -1,18 +1,20 @@
 package com.rezero.anyotherday.audio.service;
 
+import com.rezero.anyotherday.audio.dto.AudioJobDto;
+
 /**
  * 오디오 처리 서비스 (AI 호출)
- * 오디오 업로드 후 비동기로 AI 분석 수행
+ * 오디오 업로드 후 작업 큐를 통해 AI 분석 수행
  */
 public interface AudioProcessingService {
     /**
-     * 오디오 파일을 AI 서버로 보내 진단 수행
-     * 비동기 처리: 결과는 데이터베이스에 자동 저장
+     * 작업 큐에서 점유한 작업 처리 (AudioJobDispatcher가 워커 스레드에서 호출)
+     * 결과는 데이터베이스에 자동 저장되고, 점유는 처리 후 해제됨
      *
-     * @param recordId 음성 레코드 ID
-     * @param wardId 피보호자 ID
+     * @param job 점유한 작업 (recordId, wardId, workerId)
+     * @param deadline 레인에 넣을 때 시작한 처리 시간 예산
      */
-    void processAudioAsync(Integer recordId, Integer wardId);
+    void processClaimedJob(AudioJobDto job, ProcessingDeadline deadline);
 
     /**
      * 동기 처리 (테스트용)
@@ -3,20 +3,32 @@ package com.rezero.anyotherday.audio.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
 import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.ai.service.AICircuitBreaker;
 import com.rezero.anyotherday.ai.service.AIService;
+import com.rezero.anyotherday.ai.service.AIUnavailableException;
+import com.rezero.anyotherday.ai.service.AdaptiveConcurrencyLimiter;
+import com.rezero.anyotherday.ai.service.DiagnosisCache;
 import com.rezero.anyotherday.ai.service.ReportHistoryService;
+import com.rezero.anyotherday.audio.dto.AudioJobDto;
 import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import com.rezero.anyotherday.audio.dto.ProcessingEventDto;
 import com.rezero.anyotherday.report.dto.ReportDto;
 import com.rezero.anyotherday.report.service.ReportService;
 import com.rezero.anyotherday.ward.dto.WardDto;
 import com.rezero.anyotherday.ward.service.WardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 오디오 처리 서비스 구현
@@ -27,26 +39,49 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AudioProcessingServiceImpl implements AudioProcessingService {
     private final AudioRecordService audioRecordService;
+    private final AudioJobQueueService audioJobQueueService;
+    private final AudioRetryPolicy audioRetryPolicy;
     private final WardService wardService;
     private final AIService aiService;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final DiagnosisCache diagnosisCache;
     private final ReportHistoryService reportHistoryService;
     private final ReportService reportService;
     private final ObjectMapper objectMapper;
+    private final AudioPipelineMetrics audioPipelineMetrics;
+    private final ProcessingEventService processingEventService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 작업 하나의 처리 시간 예산 (동기 처리나 예산 없이 들어온 작업에 적용)
+    @Value("${audio.pipeline.deadline-ms:360000}")
+    private long deadlineMs;
+
+    // 남은 예산이 이보다 짧으면 AI 응답 타임아웃이 예산으로 줄어듦
+    @Value("${ai.server.timeout:300000}")
+    private long aiServerTimeoutMs;
 
     /**
-     * 비동기 오디오 처리
-     * 스프링의 @Async를 사용하여 별도 스레드에서 실행
+     * 큐에서 점유한 작업 처리
+     * AudioJobDispatcher가 asyncExecutor 스레드에서 호출
      */
     @Override
-    @Async("asyncExecutor")
-    public void processAudioAsync(Integer recordId, Integer wardId) {
-        log.info("[ASYNC] Audio processing started - recordId: {}, wardId: {}", recordId, wardId);
+    public void processClaimedJob(AudioJobDto job, ProcessingDeadline deadline) {
+        log.info("[ASYNC] Audio processing started - recordId: {}, wardId: {}", job.getRecordId(), job.getWardId());
+        recordLaneWait(job, deadline);
+        // 점유 시점에 이미 processing - 구독 중인 클라이언트에 알림
+        publishStatus(job, "processing", null, null);
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        String outcome = "completed";
         try {
-            processAudioInternal(recordId, wardId);
+            processAudioInternal(job, deadline);
             log.info("[ASYNC] Audio processing completed");
         } catch (Exception e) {
             log.error("[ASYNC] Audio processing failed", e);
-            handleProcessingError(recordId, e);
+            outcome = handleProcessingError(job, e);
+        } finally {
+            finishJob(job, outcome, startedAt, start);
         }
     }
 
@@ -56,12 +91,21 @@ public class AudioProcessingServiceImpl implements AudioProcessingService {
     @Override
     public void processAudioSync(Integer recordId, Integer wardId) {
         log.info("[SYNC] Audio processing started - recordId: {}, wardId: {}", recordId, wardId);
+        AudioJobDto job = AudioJobDto.builder()
+                .recordId(recordId)
+                .wardId(wardId)
+                .build();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        String outcome = "completed";
         try {
-            processAudioInternal(recordId, wardId);
+            processAudioInternal(job, ProcessingDeadline.after(Duration.ofMillis(deadlineMs)));
             log.info("[SYNC] Audio processing completed");
         } catch (Exception e) {
             log.error("[SYNC] Audio processing failed", e);
-            handleProcessingError(recordId, e);
+            outcome = handleProcessingError(job, e);
+        } finally {
+            finishJob(job, outcome, startedAt, start);
         }
     }
 
@@ -73,30 +117,47 @@ public class AudioProcessingServiceImpl implements AudioProcessingService {
      * 4. AI 서버 호출
      * 5. 리포트 저장
      */
-    private void processAudioInternal(Integer recordId, Integer wardId) throws Exception {
+    private void processAudioInternal(AudioJobDto job, ProcessingDeadline deadline) throws Exception {
+        Integer recordId = job.getRecordId();
+        Integer wardId = job.getWardId();
+
         // Step 1: Fetch audio record
         log.info("Step 1: Fetching audio record...");
-        AudioRecordDto audioRecord = audioRecordService.getRecordById(recordId);
+        deadline.check("fetching audio record");
+        AudioRecordDto audioRecord = stage(job, "fetch_record", () -> audioRecordService.getRecordById(recordId));
         if (audioRecord == null) {
             throw new IllegalArgumentException("Audio record not found: " + recordId);
         }
         log.info("   Audio file: {}", audioRecord.getFileUrl());
+        // 스풀 모드 업로드는 S3 배송이 끝나야 AI 서버가 파일을 읽을 수 있음 (큐는 배송 전 레코드를 점유하지 않음)
+        if ("spooled".equals(audioRecord.getStorageStatus())) {
+            throw new IllegalStateException("Audio file not shipped to storage yet - recordId: " + recordId);
+        }
 
         // Step 2: Fetch ward information
         log.info("Step 2: Fetching ward information...");
-        WardDto ward = wardService.getWardById(wardId);
+        deadline.check("fetching ward");
+        WardDto ward = stage(job, "fetch_ward", () -> wardService.getWardById(wardId));
         if (ward == null) {
             throw new IllegalArgumentException("Ward not found: " + wardId);
         }
         log.info("   Name: {}, Age: {}, Gender: {}", ward.getName(), ward.getAge(), ward.getGender());
 
-        // Step 3: Update status to processing
+        // Step 3: Update status to processing (큐에서 점유한 작업은 점유 시점에 이미 processing)
         log.info("Step 3: Updating status to processing...");
-        audioRecordService.updateStatus(recordId, "processing", null);
+        if (!job.isLeased()) {
+            stage(job, "mark_processing", () -> {
+                audioRecordService.updateStatus(recordId, "processing", null);
+                return null;
+            });
+            publishStatus(job, "processing", null, null);
+        }
 
         // Step 4: Fetch most recent report history (for RAG)
         log.info("Step 4: Fetching most recent report summary...");
-        Map<String, String> reportHistory = reportHistoryService.getRecentReportSummary(wardId);
+        deadline.check("fetching report history");
+        Map<String, String> reportHistory = stage(job, "fetch_history",
+                () -> reportHistoryService.getRecentReportSummary(wardId));
         if (reportHistory == null || reportHistory.isEmpty()) {
             log.info("   No previous reports found for wardId: {}", wardId);
         } else {
@@ -105,7 +166,7 @@ public class AudioProcessingServiceImpl implements AudioProcessingService {
 
         // Step 5: Parse diagnosis data
         log.info("Step 5: Parsing diagnosis data...");
-        Map<String, Object> selfReport = parseDiagnosis(ward.getDiagnosis());
+        Map<String, Object> selfReport = stage(job, "parse_diagnosis", () -> parseDiagnosis(ward.getDiagnosis()));
         log.info("   Diagnosis data: {}", selfReport);
 
         // Step 6: Call AI server
@@ -133,7 +194,17 @@ public class AudioProcessingServiceImpl implements AudioProcessingService {
             log.warn("Failed to log request: {}", e.getMessage());
         }
 
-        DiagnoseResponse aiResponse = aiService.diagnose(aiRequest);
+        // 같은 입력(오디오 내용, 자가진단, 이전 리포트 요약)으로 진단한 결과가 있으면 AI 호출 생략
+        String fingerprint = diagnosisCache.fingerprint(
+                audioRecord.getContentHash() != null ? audioRecord.getContentHash() : audioRecord.getFileUrl(),
+                aiRequest);
+        DiagnoseResponse cachedResponse = stage(job, "cache_lookup", () -> diagnosisCache.get(fingerprint));
+        DiagnoseResponse aiResponse = cachedResponse != null ? cachedResponse : callAi(job, aiRequest, deadline);
+        if (cachedResponse != null) {
+            log.info("   AI diagnosis served from cache - fingerprint: {}", fingerprint);
+        } else if (aiResponse != null && aiResponse.getError() == null) {
+            diagnosisCache.put(fingerprint, aiResponse);
+        }
 
         if (aiResponse == null) {
             throw new RuntimeException("AI diagnosis failed: null response");
@@ -146,7 +217,12 @@ public class AudioProcessingServiceImpl implements AudioProcessingService {
 
         // Step 7: Save report
         log.info("Step 7: Saving AI analysis result to report...");
-        String analysisResultJson = objectMapper.writeValueAsString(aiResponse);
+        deadline.check("saving report");
+        // 리스가 만료되어 다른 워커가 가져갔다면 리포트를 중복 저장하지 않음
+        if (job.isLeased() && !audioJobQueueService.extendLease(job)) {
+            throw new LeaseLostException("Lease lost before saving report - recordId: " + recordId);
+        }
+        String analysisResultJson = stage(job, "serialize_report", () -> objectMapper.writeValueAsString(aiResponse));
 
         ReportDto reportDto = ReportDto.builder()
                 .recordId(recordId)
@@ -154,28 +230,202 @@ public class AudioProcessingServiceImpl implements AudioProcessingService {
                 .summary(aiResponse.getSummary())  // AI 응답의 summary 저장
                 .build();
 
-        ReportDto savedReport = reportService.createReport(reportDto);
+        ReportDto savedReport = stage(job, "save_report", () -> reportService.createReport(reportDto));
         log.info("   Report saved successfully: reportId = {}", savedReport.getReportId());
 
         // Step 8: Update status to completed
         log.info("Step 8: Updating status to completed...");
-        audioRecordService.updateStatus(recordId, "completed", null);
+        stage(job, "mark_completed", () -> {
+            updateJobStatus(job, "completed", null);
+            return null;
+        });
+        publishStatus(job, "completed", savedReport.getReportId(), null);
+        if (audioRecord.getUploadedAt() != null) {
+            audioPipelineMetrics.recordUploadToReport(Duration.between(audioRecord.getUploadedAt(), LocalDateTime.now()));
+        }
 
         log.info("Audio processing completed - recordId: {}, reportId: {}", recordId, savedReport.getReportId());
     }
 
     /**
      * Handle audio processing error
+     * @return 지표용 작업 결과 (lease_lost, parked, retry, failed)
      */
-    private void handleProcessingError(Integer recordId, Exception e) {
+    private String handleProcessingError(AudioJobDto job, Exception e) {
+        if (e instanceof LeaseLostException) {
+            // 다른 워커가 이미 처리 중이므로 상태를 건드리지 않음
+            log.warn(e.getMessage());
+            return "lease_lost";
+        }
+        if (e instanceof AIUnavailableException unavailable && job.isLeased()) {
+            // AI 서버가 지금 받을 수 없을 뿐이므로 실패 처리하지 않고 나중에 다시 시도
+            log.warn("AI server unavailable, parking job - recordId: {}, reason: {}",
+                    job.getRecordId(), unavailable.getMessage());
+            audioJobQueueService.park(job, unavailable.getRetryAfter());
+            publishStatus(job, "pending", null, null);
+            return "parked";
+        }
         try {
             String errorMessage = e.getMessage();
             log.error("Error message: {}", errorMessage);
-            audioRecordService.updateStatus(recordId, "failed", errorMessage);
+
+            // 일시적 오류면 실패 처리하지 않고 백오프 후 재시도 예약 (대기는 큐에서, 워커 스레드는 바로 반환)
+            int failedAttempts = job.getAttemptCount() + 1;
+            if (job.isLeased() && audioRetryPolicy.isRetryable(e)) {
+                if (audioRetryPolicy.canRetry(failedAttempts)) {
+                    audioJobQueueService.scheduleRetry(job, audioRetryPolicy.nextDelay(failedAttempts), errorMessage);
+                    publishStatus(job, "pending", null, errorMessage);
+                    return "retry";
+                }
+                errorMessage = "Gave up after " + failedAttempts + " attempts: " + errorMessage;
+            }
+
+            updateJobStatus(job, "failed", errorMessage);
+            publishStatus(job, "failed", null, errorMessage);
             log.info("Status updated to failed");
         } catch (Exception updateError) {
             log.error("Failed to update status: {}", updateError.getMessage());
         }
+        return "failed";
+    }
+
+    /**
+     * 파이프라인 단계 실행 및 소요 시간 기록 (지표 + 타임라인 이벤트)
+     */
+    private <T> T stage(AudioJobDto job, String name, StageCall<T> call) throws Exception {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.call();
+        } catch (Exception e) {
+            outcome = AudioPipelineMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            audioPipelineMetrics.recordStage(name, elapsed, outcome);
+            addEvent(job, name, startedAt, elapsed, outcome);
+        }
+    }
+
+    /**
+     * 디스패치 후 ward 레인에서 기다린 시간 기록
+     */
+    private void recordLaneWait(AudioJobDto job, ProcessingDeadline deadline) {
+        long waited = deadline.elapsed().toNanos();
+        audioPipelineMetrics.recordStage("lane_wait", waited, "success");
+        addEvent(job, "lane_wait", LocalDateTime.now().minusNanos(waited), waited, "success");
+    }
+
+    /**
+     * 작업 전체 시간을 기록하고 모은 이벤트를 한 번에 저장
+     * 타임라인 저장 실패가 처리 결과에 영향을 주지 않도록 예외는 로그만 남김
+     */
+    private void finishJob(AudioJobDto job, String outcome, LocalDateTime startedAt, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        audioPipelineMetrics.recordJob(outcome, elapsed);
+        addEvent(job, "total", startedAt, elapsed, outcome);
+        try {
+            processingEventService.recordEvents(job.getEvents());
+        } catch (Exception e) {
+            log.warn("Failed to save processing timeline - recordId: {}, reason: {}", job.getRecordId(), e.getMessage());
+        }
+    }
+
+    private void addEvent(AudioJobDto job, String stage, LocalDateTime startedAt, long elapsedNanos, String outcome) {
+        job.getEvents().add(ProcessingEventDto.builder()
+                .recordId(job.getRecordId())
+                .wardId(job.getWardId())
+                .attempt(job.getAttemptCount() + 1)
+                .stage(stage)
+                .startedAt(startedAt)
+                .endedAt(startedAt.plusNanos(elapsedNanos))
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .outcome(outcome)
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface StageCall<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * 작업 상태 변경
+     * 큐에서 점유한 작업은 점유한 워커만 상태를 바꿀 수 있도록 큐를 통해 처리
+     */
+    private void updateJobStatus(AudioJobDto job, String status, String errorMessage) {
+        if (job.isLeased()) {
+            audioJobQueueService.complete(job, status, errorMessage);
+        } else {
+            audioRecordService.updateStatus(job.getRecordId(), status, errorMessage);
+        }
+    }
+
+    /**
+     * 상태 변경을 같은 프로세스의 구독자(SSE)에게 알림
+     */
+    private void publishStatus(AudioJobDto job, String status, Integer reportId, String errorMessage) {
+        eventPublisher.publishEvent(AudioStatusEventDto.builder()
+                .recordId(job.getRecordId())
+                .wardId(job.getWardId())
+                .status(status)
+                .reportId(reportId)
+                .errorMessage(errorMessage)
+                .build());
+    }
+
+    /**
+     * 처리 도중 리스를 잃었을 때 (다른 워커가 같은 레코드를 다시 점유함)
+     */
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * AI 서버 호출 (캐시 미스일 때만)
+     */
+    private DiagnoseResponse callAi(AudioJobDto job, DiagnoseRequest aiRequest, ProcessingDeadline deadline)
+            throws Exception {
+        // AI 호출은 오래 걸리므로 호출 직전에 리스 연장
+        if (job.isLeased() && !audioJobQueueService.extendLease(job)) {
+            throw new LeaseLostException("Lease lost before AI call - recordId: " + job.getRecordId());
+        }
+        // 서킷 브레이커(장애 시 즉시 보류) -> 적응형 동시성 제한(과부하 방지) 순서로 거쳐 호출
+        // 동시성 대기는 남은 예산 안에서만 하고 (넘으면 AIUnavailableException으로 보류),
+        // 동시성 대기까지 끝난 시점의 남은 예산만 AI 응답 타임아웃으로 사용
+        // ai_call 단계는 동시성 대기를 포함하고, ai.diagnose.calls는 실제 서버 호출 시간만 기록
+        return stage(job, "ai_call", () -> aiCircuitBreaker.execute(() ->
+                adaptiveConcurrencyLimiter.execute(deadline.remaining(), () -> {
+                    deadline.check("calling AI server");
+                    Duration budget = deadline.remaining();
+                    log.info("   Remaining budget for AI call: {}ms", budget.toMillis());
+                    long callStart = System.nanoTime();
+                    try {
+                        DiagnoseResponse response = aiService.diagnose(aiRequest, budget);
+                        audioPipelineMetrics.recordAiCall("success", System.nanoTime() - callStart);
+                        return response;
+                    } catch (RuntimeException e) {
+                        // 예산으로 줄인 타임아웃이 끝난 것은 AI 서버 장애가 아님 - 서킷/동시성 제한에 반영하지 않음
+                        RuntimeException failure = budget.toMillis() < aiServerTimeoutMs && isTimeout(e)
+                                ? new DeadlineExceededException("Processing deadline exceeded while waiting for AI response"
+                                        + " (timeout " + budget.toMillis() + "ms)", e)
+                                : e;
+                        audioPipelineMetrics.recordAiCall(AudioPipelineMetrics.outcomeOf(failure), System.nanoTime() - callStart);
+                        throw failure;
+                    }
+                })));
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
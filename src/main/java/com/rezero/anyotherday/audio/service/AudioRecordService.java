@@ -1,9 +1,13 @@
 package com.rezero.anyotherday.audio.service;
 
 import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import com.rezero.anyotherday.audio.dto.BatchUploadResultDto;
+import com.rezero.anyotherday.audio.dto.PresignedUploadDto;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AudioRecordService {
@@ -12,6 +16,16 @@ public interface AudioRecordService {
             MultipartFile file,
             LocalDateTime recordedAt);
 
+    // 여러 파일을 한 요청으로 업로드 (S3 병렬 업로드 + 배치 INSERT), 파일별 결과 반환
+    List<BatchUploadResultDto> uploadBatch(Integer wardId,
+            List<MultipartFile> files,
+            LocalDateTime recordedAt);
+
+    // S3 직접 업로드 (파일이 백엔드를 거치지 않음)
+    PresignedUploadDto createUploadUrl(Integer wardId, String fileName, String contentType);
+
+    AudioRecordDto completeDirectUpload(Integer wardId, String key, LocalDateTime recordedAt);
+
     AudioRecordDto getRecordById(Integer recordId);
 
     List<AudioRecordDto> getRecordsByWardId(Integer wardId);
@@ -19,4 +33,6 @@ public interface AudioRecordService {
     AudioRecordDto getLatestRecordByWardId(Integer wardId);
 
     void updateStatus(Integer recordId, String status, String errorMessage);
+
+    List<AudioStatusEventDto> getRecordStatuses(Collection<Integer> recordIds);
 }
\ No newline at end of file
@@ -1,59 +1,644 @@
 package com.rezero.anyotherday.audio.service;
 
 import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import com.rezero.anyotherday.audio.dto.AudioHeaderDto;
 import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import com.rezero.anyotherday.audio.dto.BatchUploadResultDto;
+import com.rezero.anyotherday.audio.dto.PresignedUploadDto;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AudioRecordServiceImpl implements AudioRecordService {
 
+    // presigned 업로드 키에 쓸 수 있는 확장자 (그 밖의 값은 bin)
+    private static final Set<String> DIRECT_UPLOAD_EXTENSIONS =
+            Set.of("wav", "wave", "mp3", "m4a", "mp4", "aac", "ogg", "oga", "opus", "bin");
+
     private final AudioRecordDao audioRecordDao;
     private final S3AudioStorageService s3AudioStorageService;
+    private final AudioSpoolShipper audioSpoolShipper;
+    private final AudioHeaderParser audioHeaderParser;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private ExecutorService batchUploadExecutor;
+
+    // 큐를 거치지 않은 처리(process-sync)도 리스를 걸어, 노드가 죽으면 복구 대상이 되게 함
+    @Value("${audio.queue.lease-seconds:600}")
+    private int leaseSeconds;
+
+    // 스풀 모드 - 로컬 디스크에 쓰고 바로 응답, S3 업로드는 AudioSpoolShipper가 나중에 처리
+    @Value("${audio.spool.enabled:false}")
+    private boolean spoolEnabled;
+
+    @Value("${audio.spool.dir:${java.io.tmpdir}/anyotherday-spool}")
+    private String spoolDir;
+
+    // 일괄 업로드 - 요청당 최대 파일 수, 노드 전체에서 동시에 S3로 보내는 파일 수
+    @Value("${audio.batch.max-files:20}")
+    private int maxBatchFiles;
+
+    @Value("${audio.batch.upload-concurrency:4}")
+    private int batchUploadConcurrency;
+
+    @Value("${audio.upload.presign-expiry-seconds:900}")
+    private long presignExpirySeconds;
+
+    // 멀티파트 업로드의 spring.servlet.multipart.max-file-size와 맞춤
+    @Value("${audio.upload.max-bytes:20971520}")
+    private long maxUploadBytes;
+
+    // 배치 INSERT용 SqlSessionTemplate은 DBconfig의 기본(SIMPLE) 템플릿과 구분해 주입
+    public AudioRecordServiceImpl(AudioRecordDao audioRecordDao,
+                                  S3AudioStorageService s3AudioStorageService,
+                                  AudioSpoolShipper audioSpoolShipper,
+                                  AudioHeaderParser audioHeaderParser,
+                                  @Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+                                  TransactionTemplate transactionTemplate) {
+        this.audioRecordDao = audioRecordDao;
+        this.s3AudioStorageService = s3AudioStorageService;
+        this.audioSpoolShipper = audioSpoolShipper;
+        this.audioHeaderParser = audioHeaderParser;
+        this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        batchUploadExecutor = Executors.newFixedThreadPool(Math.max(1, batchUploadConcurrency), r -> {
+            Thread thread = new Thread(r, "audio-batch-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchUploadExecutor.shutdownNow();
+    }
 
     @Override
     public AudioRecordDto uploadAndCreateRecord(Integer wardId,
             MultipartFile file,
             LocalDateTime recordedAt) {
 
-        // 1) 확장자 추출
-        String ext = "";
-        String originalName = file.getOriginalFilename();
-        if (originalName != null && originalName.contains(".")) {
-            ext = originalName.substring(originalName.lastIndexOf(".") + 1); // ← . 제외하고 추출
-        } else {
-            ext = "bin"; // fallback
+        // 1) 헤더 검사 - 오디오가 아니거나 깨진 파일은 S3 업로드 / AI 호출 전에 거절 (IllegalArgumentException)
+        AudioHeaderDto header = audioHeaderParser.parse(file);
+
+        // 확장자는 감지한 형식 기준 (파일 이름 확장자가 맞으면 유지)
+        String ext = AudioHeaderParser.extensionFor(header, extensionOf(file.getOriginalFilename()));
+
+        if (spoolEnabled) {
+            return spoolAndCreateRecord(wardId, file, recordedAt, ext, header);
         }
 
-        // 2) S3 저장 키 생성
-        String key = "audio/" + wardId + "/" + UUID.randomUUID() + "." + ext;
+        // 2) 내용 해시 - 멀티파트는 이미 로컬에 받아져 있으므로 S3로 보내기 전에 한 번 읽어 계산
+        String contentHash = sha256(file);
 
-        // 3) S3 업로드
+        // 같은 피보호자가 같은 파일을 다시 올렸으면 S3 업로드/AI 진단 없이 기존 레코드 반환
+        AudioRecordDto existing = findDuplicate(wardId, contentHash);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 3) S3 저장 키 생성 (내용 주소 - 같은 파일은 같은 키)
+        String key = "audio/" + wardId + "/" + contentHash + "." + ext;
+
+        // 4) S3 업로드
         String fileUrl = s3AudioStorageService.uploadAudio(file, key);
 
-        // 4) DTO 생성
+        // 5) DTO 생성
         AudioRecordDto dto = new AudioRecordDto();
         dto.setWardId(wardId);
         dto.setRecordedAt(recordedAt);
         dto.setFileUrl(fileUrl);
         dto.setFileFormat(ext);
         dto.setStatus("pending");
+        dto.setContentHash(contentHash);
+        applyHeader(dto, header);
 
-        // 5) DB Insert
-        audioRecordDao.createRecord(dto);
+        // 6) DB Insert (같은 파일이 동시에 올라와 먼저 저장된 쪽이 있으면 그 레코드 반환)
+        try {
+            audioRecordDao.createRecord(dto);
+        } catch (DuplicateKeyException e) {
+            log.info("Concurrent duplicate upload - wardId: {}, hash: {}", wardId, contentHash);
+            return findDuplicate(wardId, contentHash);
+        }
 
-        // 6) Insert 된 값 조회해서 리턴
+        // 7) Insert 된 값 조회해서 리턴
         return audioRecordDao.getRecordById(dto.getRecordId());
     }
 
 
+    /**
+     * 일괄 업로드
+     * 1) 파일마다 내용 해시 → 기존 레코드 / 같은 요청 안의 같은 파일은 중복으로 연결
+     * 2) 새 파일만 제한된 풀에서 병렬로 S3 업로드
+     * 3) 업로드된 파일의 레코드를 배치 INSERT 한 번으로 저장 (INSERT 후 다시 조회하지 않음)
+     * 한 파일이 실패해도 나머지는 계속 처리하고, 결과는 요청의 파일 순서대로 반환
+     */
+    @Override
+    public List<BatchUploadResultDto> uploadBatch(Integer wardId,
+            List<MultipartFile> files,
+            LocalDateTime recordedAt) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("No files");
+        }
+        if (files.size() > maxBatchFiles) {
+            throw new IllegalArgumentException("Too many files: " + files.size() + " (max " + maxBatchFiles + ")");
+        }
+
+        List<BatchUploadResultDto> results = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            results.add(BatchUploadResultDto.builder()
+                    .index(i)
+                    .fileName(files.get(i).getOriginalFilename())
+                    .build());
+        }
+
+        // 스풀 모드는 요청 경로에 S3가 없으므로 파일별로 디스크에 씀
+        if (spoolEnabled) {
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    applyRecord(results.get(i), uploadAndCreateRecord(wardId, files.get(i), recordedAt));
+                } catch (Exception e) {
+                    fail(results.get(i), e);
+                }
+            }
+            return results;
+        }
+
+        // 1) 해시 + 중복 판별
+        String[] hashes = new String[files.size()];
+        AudioHeaderDto[] headers = new AudioHeaderDto[files.size()];
+        String[] extensions = new String[files.size()];
+        String[] keys = new String[files.size()];
+        Map<String, Integer> firstIndexByHash = new HashMap<>();
+        Map<Integer, Future<String>> uploads = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            BatchUploadResultDto result = results.get(i);
+            try {
+                headers[i] = audioHeaderParser.parse(file);
+                extensions[i] = AudioHeaderParser.extensionFor(headers[i], extensionOf(file.getOriginalFilename()));
+                hashes[i] = sha256(file);
+                if (firstIndexByHash.putIfAbsent(hashes[i], i) != null) {
+                    continue; // 같은 요청 안의 같은 파일 - 아래에서 첫 파일의 레코드로 연결
+                }
+                AudioRecordDto existing = findDuplicate(wardId, hashes[i]);
+                if (existing != null) {
+                    applyRecord(result, existing);
+                    continue;
+                }
+
+                // 2) 병렬 S3 업로드
+                String key = "audio/" + wardId + "/" + hashes[i] + "." + extensions[i];
+                keys[i] = key;
+                uploads.put(i, batchUploadExecutor.submit(() -> s3AudioStorageService.uploadAudio(file, key)));
+            } catch (Exception e) {
+                fail(result, e);
+            }
+        }
+
+        List<AudioRecordDto> pending = new ArrayList<>();
+        List<BatchUploadResultDto> pendingResults = new ArrayList<>();
+        List<String> pendingKeys = new ArrayList<>();
+        for (Map.Entry<Integer, Future<String>> upload : uploads.entrySet()) {
+            int i = upload.getKey();
+            try {
+                AudioRecordDto dto = new AudioRecordDto();
+                dto.setWardId(wardId);
+                dto.setRecordedAt(recordedAt);
+                dto.setFileUrl(upload.getValue().get());
+                dto.setFileFormat(extensions[i]);
+                dto.setStatus("pending");
+                dto.setContentHash(hashes[i]);
+                applyHeader(dto, headers[i]);
+                pending.add(dto);
+                pendingResults.add(results.get(i));
+                pendingKeys.add(keys[i]);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(results.get(i), e);
+            } catch (ExecutionException e) {
+                fail(results.get(i), e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        // 3) 배치 INSERT
+        int inserted = insertBatch(wardId, pending, pendingResults, pendingKeys);
+
+        // 같은 요청 안의 같은 파일은 첫 파일의 결과를 따름
+        for (int i = 0; i < files.size(); i++) {
+            Integer first = hashes[i] != null ? firstIndexByHash.get(hashes[i]) : null;
+            if (first != null && first != i) {
+                BatchUploadResultDto firstResult = results.get(first);
+                if (firstResult.getRecord() != null) {
+                    results.get(i).setRecord(firstResult.getRecord());
+                    results.get(i).setStatus("duplicate");
+                } else {
+                    results.get(i).setStatus("failed");
+                    results.get(i).setMessage(firstResult.getMessage());
+                }
+            }
+        }
+
+        log.info("Batch upload - wardId: {}, files: {}, inserted: {}", wardId, files.size(), inserted);
+        return results;
+    }
+
+    /**
+     * 레코드 일괄 INSERT (MyBatis BATCH executor - 한 트랜잭션, JDBC 배치 한 번)
+     * 다른 요청이 같은 파일을 먼저 저장해 배치가 실패하면 한 건씩 다시 넣으며 중복은 기존 레코드로 연결
+     * 한 건씩 넣다 실패한 파일은 결과를 failed로 두고 올린 S3 객체를 지움 (레코드 없는 객체를 남기지 않음)
+     *
+     * @param results records와 같은 순서의 파일별 결과
+     * @param keys records와 같은 순서의 S3 키
+     * @return 새로 저장한 레코드 수
+     */
+    private int insertBatch(Integer wardId,
+            List<AudioRecordDto> records,
+            List<BatchUploadResultDto> results,
+            List<String> keys) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                AudioRecordDao batchDao = batchSqlSessionTemplate.getMapper(AudioRecordDao.class);
+                records.forEach(batchDao::createRecord);
+                batchSqlSessionTemplate.flushStatements();
+            });
+            for (int n = 0; n < records.size(); n++) {
+                applyRecord(results.get(n), records.get(n));
+            }
+            return records.size();
+        } catch (DuplicateKeyException e) {
+            log.info("Batch insert hit a concurrent duplicate - wardId: {}, retrying row by row", wardId);
+            int inserted = 0;
+            for (int n = 0; n < records.size(); n++) {
+                AudioRecordDto dto = records.get(n);
+                dto.setRecordId(null);
+                try {
+                    try {
+                        audioRecordDao.createRecord(dto);
+                        inserted++;
+                        applyRecord(results.get(n), dto);
+                    } catch (DuplicateKeyException duplicate) {
+                        // 같은 내용 해시의 기존 레코드가 같은 S3 객체를 가리키므로 객체는 지우지 않음
+                        AudioRecordDto existing = findDuplicate(wardId, dto.getContentHash());
+                        if (existing == null) {
+                            throw duplicate;
+                        }
+                        applyRecord(results.get(n), existing);
+                    }
+                } catch (Exception rowFailure) {
+                    fail(results.get(n), rowFailure);
+                    deleteObjectQuietly(keys.get(n));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private void deleteObjectQuietly(String key) {
+        try {
+            s3AudioStorageService.deleteObject(key);
+        } catch (Exception e) {
+            log.warn("Failed to delete orphaned S3 object - key: {}, reason: {}", key, e.getMessage());
+        }
+    }
+
+    private static void applyRecord(BatchUploadResultDto result, AudioRecordDto record) {
+        result.setRecord(record);
+        result.setStatus(record.isDuplicate() ? "duplicate" : "created");
+    }
+
+    private static void fail(BatchUploadResultDto result, Throwable e) {
+        log.warn("Batch upload file failed - index: {}, file: {}, reason: {}",
+                result.getIndex(), result.getFileName(), e.getMessage());
+        result.setStatus("failed");
+        result.setMessage(e.getMessage());
+    }
+
+    /**
+     * 스풀 모드 업로드
+     * 파일을 스풀 디렉터리에 쓰면서 해시를 계산하고 fsync 한 뒤 레코드를 만든다 (S3 응답을 기다리지 않음)
+     * 레코드는 storage_status = 'spooled'로 저장되어 S3 배송이 끝날 때까지 작업 큐에서 점유되지 않음
+     */
+    private AudioRecordDto spoolAndCreateRecord(Integer wardId,
+            MultipartFile file,
+            LocalDateTime recordedAt,
+            String ext,
+            AudioHeaderDto header) {
+        Path dir = Paths.get(spoolDir);
+        Path partial = dir.resolve(UUID.randomUUID() + ".part");
+        String contentHash;
+        try {
+            Files.createDirectories(dir);
+            contentHash = writeAndHash(file, partial);
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw new RuntimeException("Failed to spool upload: " + e.getMessage(), e);
+        }
+
+        AudioRecordDto existing = findDuplicate(wardId, contentHash);
+        if (existing != null) {
+            deleteQuietly(partial);
+            return existing;
+        }
+
+        // 완성된 파일만 배송 대상이 되도록 이름을 바꿔 확정
+        String key = "audio/" + wardId + "/" + contentHash + "." + ext;
+        Path spooled = dir.resolve(wardId + "-" + contentHash + "." + ext);
+        try {
+            Files.move(partial, spooled, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw new RuntimeException("Failed to spool upload: " + e.getMessage(), e);
+        }
+
+        AudioRecordDto dto = new AudioRecordDto();
+        dto.setWardId(wardId);
+        dto.setRecordedAt(recordedAt);
+        dto.setFileUrl(s3AudioStorageService.getUrl(key)); // 배송 후 실제 업로드 URL로 갱신
+        dto.setFileFormat(ext);
+        dto.setStatus("pending");
+        dto.setContentHash(contentHash);
+        applyHeader(dto, header);
+        dto.setStorageStatus("spooled");
+        dto.setSpoolPath(spooled.toString());
+        dto.setSpoolNode(audioSpoolShipper.getNodeId());
+
+        try {
+            audioRecordDao.createRecord(dto);
+        } catch (DuplicateKeyException e) {
+            log.info("Concurrent duplicate upload - wardId: {}, hash: {}", wardId, contentHash);
+            return findDuplicate(wardId, contentHash);
+        }
+
+        log.info("Audio spooled - recordId: {}, path: {}", dto.getRecordId(), spooled);
+        audioSpoolShipper.wakeUp();
+        return audioRecordDao.getRecordById(dto.getRecordId());
+    }
+
+    /**
+     * 업로드 스트림을 FileChannel로 쓰면서 SHA-256 계산, 응답 전에 디스크까지 fsync
+     */
+    private static String writeAndHash(MultipartFile file, Path target) throws IOException {
+        try (InputStream in = file.getInputStream();
+             FileChannel channel = FileChannel.open(target,
+                     StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                byteBuffer.clear().limit(read);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+            channel.force(true);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spool file: {}", path, e);
+        }
+    }
+
+    @Override
+    public PresignedUploadDto createUploadUrl(Integer wardId, String fileName, String contentType) {
+        if (contentType == null || !contentType.startsWith("audio/")) {
+            throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        }
+
+        // 내용을 미리 알 수 없으므로 임의 키 사용 (완료 요청에서 이 피보호자의 direct 경로 키만 받음)
+        // 클라이언트가 보낸 확장자는 허용 목록에 있을 때만 키에 사용
+        String key = directUploadPrefix(wardId) + UUID.randomUUID() + "." + directUploadExtension(fileName);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofSeconds(presignExpirySeconds));
+        Date expiration = Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        String uploadUrl = s3AudioStorageService.generateUploadUrl(key, contentType, expiration).toString();
+        log.info("Issued presigned upload URL - wardId: {}, key: {}", wardId, key);
+
+        return PresignedUploadDto.builder()
+                .key(key)
+                .uploadUrl(uploadUrl)
+                .method("PUT")
+                .contentType(contentType)
+                .maxBytes(maxUploadBytes)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Override
+    public AudioRecordDto completeDirectUpload(Integer wardId, String key, LocalDateTime recordedAt) {
+        if (!isDirectUploadKey(wardId, key)) {
+            throw new IllegalArgumentException("Invalid upload key for ward " + wardId + ": " + key);
+        }
+
+        // 1) 업로드된 객체 확인 (HEAD - 본문은 받지 않음)
+        ObjectMetadata meta = s3AudioStorageService.getObjectMetadata(key);
+        if (meta == null) {
+            throw new IllegalArgumentException("Uploaded object not found: " + key);
+        }
+
+        // 2) 완료 요청 재시도면 이미 만든 레코드 반환
+        String fileUrl = s3AudioStorageService.getUrl(key);
+        AudioRecordDto existing = audioRecordDao.getRecordByFileUrl(wardId, fileUrl);
+        if (existing != null) {
+            existing.setDuplicate(true);
+            return existing;
+        }
+
+        // 3) 크기 / 형식 검증 - 통과하지 못한 객체는 남겨두지 않음
+        long size = meta.getContentLength();
+        String contentType = meta.getContentType();
+        if (size <= 0 || size > maxUploadBytes || contentType == null || !contentType.startsWith("audio/")) {
+            log.warn("Rejecting direct upload - key: {}, size: {}, contentType: {}", key, size, contentType);
+            s3AudioStorageService.deleteObject(key);
+            throw new IllegalArgumentException("Uploaded object rejected (size: " + size
+                    + ", contentType: " + contentType + ")");
+        }
+
+        // 4) 헤더 검사 - 앞부분만 Range GET으로 읽어 AI 호출 전에 거절
+        AudioHeaderDto header;
+        try {
+            header = audioHeaderParser.parse(s3ByteSource(key, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejecting direct upload - key: {}, reason: {}", key, e.getMessage());
+            s3AudioStorageService.deleteObject(key);
+            throw e;
+        }
+
+        // 5) DB Insert - 내용 해시는 객체를 다시 읽어야 하므로 계산하지 않음 (중복 판별 대상 아님)
+        // 같은 키의 완료 요청이 동시에 오면 uq_record_file로 한 건만 저장되고, 나머지는 그 레코드를 반환
+        AudioRecordDto dto = new AudioRecordDto();
+        dto.setWardId(wardId);
+        dto.setRecordedAt(recordedAt);
+        dto.setFileUrl(fileUrl);
+        dto.setFileFormat(AudioHeaderParser.extensionFor(header, extensionOf(key)));
+        dto.setStatus("pending");
+        applyHeader(dto, header);
+        try {
+            audioRecordDao.createRecord(dto);
+        } catch (DuplicateKeyException e) {
+            log.info("Concurrent direct upload completion - wardId: {}, key: {}", wardId, key);
+            AudioRecordDto concurrent = audioRecordDao.getRecordByFileUrl(wardId, fileUrl);
+            if (concurrent == null) {
+                throw e;
+            }
+            concurrent.setDuplicate(true);
+            return concurrent;
+        }
+
+        log.info("Direct upload completed - wardId: {}, recordId: {}, size: {}", wardId, dto.getRecordId(), size);
+        return audioRecordDao.getRecordById(dto.getRecordId());
+    }
+
+    private AudioHeaderParser.ByteSource s3ByteSource(String key, long size) {
+        return new AudioHeaderParser.ByteSource() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public byte[] read(long offset, int length) {
+                if (offset >= size) {
+                    return new byte[0];
+                }
+                return s3AudioStorageService.readRange(key, offset, (int) Math.min(length, size - offset));
+            }
+        };
+    }
+
+    private static void applyHeader(AudioRecordDto dto, AudioHeaderDto header) {
+        dto.setDurationMs(header.getDurationMs());
+        dto.setSampleRate(header.getSampleRate());
+        dto.setChannels(header.getChannels());
+    }
+
+    /**
+     * presigned 업로드 경로 - 내용 해시 키(audio/{wardId}/{hash}.{ext})와 섞이지 않도록 분리
+     */
+    private static String directUploadPrefix(Integer wardId) {
+        return "audio/" + wardId + "/direct/";
+    }
+
+    private static String directUploadExtension(String fileName) {
+        String ext = extensionOf(fileName).toLowerCase(Locale.ROOT);
+        return DIRECT_UPLOAD_EXTENSIONS.contains(ext) ? ext : "bin";
+    }
+
+    /**
+     * createUploadUrl이 만든 형태({prefix}{UUID}.{허용 확장자})의 키인지 확인
+     */
+    private static boolean isDirectUploadKey(Integer wardId, String key) {
+        String prefix = directUploadPrefix(wardId);
+        if (key == null || !key.startsWith(prefix)) {
+            return false;
+        }
+        String name = key.substring(prefix.length());
+        int dot = name.lastIndexOf('.');
+        if (dot <= 0 || !DIRECT_UPLOAD_EXTENSIONS.contains(name.substring(dot + 1))) {
+            return false;
+        }
+        try {
+            return UUID.fromString(name.substring(0, dot)).toString().equals(name.substring(0, dot));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName != null && fileName.contains(".")) {
+            return fileName.substring(fileName.lastIndexOf(".") + 1); // ← . 제외하고 추출
+        }
+        return "bin"; // fallback
+    }
+
+    /**
+     * 같은 내용의 기존 레코드 조회
+     * 실패했던 레코드면 처음부터 다시 처리하도록 pending으로 되돌림
+     */
+    private AudioRecordDto findDuplicate(Integer wardId, String contentHash) {
+        AudioRecordDto existing = audioRecordDao.getRecordByContentHash(wardId, contentHash);
+        if (existing == null) {
+            return null;
+        }
+        log.info("Duplicate audio upload - wardId: {}, existing recordId: {}, status: {}",
+                wardId, existing.getRecordId(), existing.getStatus());
+        if ("failed".equals(existing.getStatus()) && audioRecordDao.resetFailedRecord(existing.getRecordId()) > 0) {
+            existing = audioRecordDao.getRecordById(existing.getRecordId());
+        }
+        existing.setDuplicate(true);
+        return existing;
+    }
+
+    /**
+     * 업로드 파일 SHA-256 (hex)
+     */
+    private static String sha256(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read upload: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public AudioRecordDto getRecordById(Integer recordId) {
         return audioRecordDao.getRecordById(recordId);
@@ -71,6 +656,14 @@ public class AudioRecordServiceImpl implements AudioRecordService {
 
     @Override
     public void updateStatus(Integer recordId, String status, String message) {
-        audioRecordDao.updateStatus(recordId, status, message);
+        audioRecordDao.updateStatus(recordId, status, message, leaseSeconds);
+    }
+
+    @Override
+    public List<AudioStatusEventDto> getRecordStatuses(Collection<Integer> recordIds) {
+        if (recordIds == null || recordIds.isEmpty()) {
+            return List.of();
+        }
+        return audioRecordDao.getRecordStatuses(recordIds);
     }
 }
\ No newline at end of file
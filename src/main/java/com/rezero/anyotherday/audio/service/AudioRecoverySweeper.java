@@ -0,0 +1,102 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고아 작업 복구
+ * 처리 중이던 노드가 죽거나 재배포되면 processing 레코드의 리스가 만료된 채 남음
+ * 시작 시점과 이후 주기적으로 이런 레코드를 찾아 pending으로 되돌림
+ * - 한 번에 batch-size개씩, 배치마다 next_attempt_at을 batch-spacing만큼 뒤로 밀어 AI 서버에 한꺼번에 몰리지 않게 함
+ * - 되돌릴 때마다 시도 횟수를 올리고, 최대 시도 횟수를 넘기면 failed (노드를 죽이는 레코드가 무한 반복되지 않도록)
+ */
+@Slf4j
+@Component
+public class AudioRecoverySweeper {
+
+    private final AudioRecordDao audioRecordDao;
+    private final AudioRetryPolicy audioRetryPolicy;
+    private final AudioJobDispatcher audioJobDispatcher;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "audio-recovery-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${audio.recovery.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audio.recovery.interval-ms:30000}")
+    private long intervalMs;
+
+    @Value("${audio.recovery.batch-size:10}")
+    private int batchSize;
+
+    // 배치 간 재시도 시각 간격
+    @Value("${audio.recovery.batch-spacing-seconds:30}")
+    private long batchSpacingSeconds;
+
+    // 한 번 실행에서 되돌릴 최대 배치 수 (나머지는 다음 주기에)
+    @Value("${audio.recovery.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    public AudioRecoverySweeper(AudioRecordDao audioRecordDao,
+                                AudioRetryPolicy audioRetryPolicy,
+                                AudioJobDispatcher audioJobDispatcher) {
+        this.audioRecordDao = audioRecordDao;
+        this.audioRetryPolicy = audioRetryPolicy;
+        this.audioJobDispatcher = audioJobDispatcher;
+    }
+
+    /**
+     * 기동이 끝난 뒤 바로 한 번 실행하고 이후 주기적으로 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.warn("Audio recovery sweeper is disabled - orphaned processing records will not be requeued");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::sweep, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void sweep() {
+        try {
+            int requeued = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Integer> recordIds = audioRecordDao.selectOrphanedRecordIds(batchSize);
+                if (recordIds.isEmpty()) {
+                    break;
+                }
+                // 첫 배치는 바로, 이후 배치는 batch-spacing씩 늦춰 다시 점유되게 함
+                requeued += audioRecordDao.requeueOrphanedRecords(recordIds,
+                        batch * batchSpacingSeconds, audioRetryPolicy.getMaxAttempts());
+                if (recordIds.size() < batchSize) {
+                    break;
+                }
+            }
+            if (requeued > 0) {
+                log.warn("Recovered {} orphaned audio records", requeued);
+                audioJobDispatcher.wakeUp();
+            }
+        } catch (Exception e) {
+            log.error("Audio recovery sweep failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.ai.service.AICircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 오디오 처리 실패 시 재시도 정책
+ * 지연 = min(max-delay, base-delay * 2^시도횟수) 의 절반 + 그 절반 안의 무작위 값 (equal jitter)
+ * 여러 작업이 한꺼번에 실패해도 같은 시각에 몰려서 재시도하지 않도록 지터를 섞음
+ */
+@Component
+public class AudioRetryPolicy {
+
+    // 최초 시도를 포함한 최대 시도 횟수
+    @Value("${audio.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${audio.retry.base-delay-ms:5000}")
+    private long baseDelayMs;
+
+    @Value("${audio.retry.max-delay-ms:300000}")
+    private long maxDelayMs;
+
+    /**
+     * 다시 시도할 만한 일시적 오류인지
+     * AI 서버 연결 실패/타임아웃/5xx, DB 일시 오류, 처리 예산 초과만 재시도
+     * (파싱 오류, 4xx, 데이터 없음은 재시도해도 같음)
+     */
+    public boolean isRetryable(Throwable e) {
+        if (AICircuitBreaker.isServerFailure(e) || e instanceof DeadlineExceededException) {
+            return true;
+        }
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException || t instanceof RecoverableDataAccessException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 실패한 시도 이후 다시 시도할 수 있는지
+     *
+     * @param failedAttempts 이번 실패를 포함해 지금까지 실패한 횟수
+     */
+    public boolean canRetry(int failedAttempts) {
+        return failedAttempts < maxAttempts;
+    }
+
+    /**
+     * 다음 시도까지 기다릴 시간
+     *
+     * @param failedAttempts 이번 실패를 포함해 지금까지 실패한 횟수 (1부터)
+     */
+    public Duration nextDelay(int failedAttempts) {
+        int exponent = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        long capped = Math.min(maxDelayMs, baseDelayMs * (1L << exponent));
+        long half = capped / 2;
+        long jitter = half > 0 ? ThreadLocalRandom.current().nextLong(half + 1) : 0;
+        return Duration.ofMillis(half + jitter);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
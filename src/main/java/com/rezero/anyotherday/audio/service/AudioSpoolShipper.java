@@ -0,0 +1,222 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 스풀 → S3 배송
+ * 스풀 모드 업로드는 디스크에 쓰고 바로 응답하므로, 여기서 storage_status = 'spooled' 레코드를
+ * 주기적으로(또는 업로드 직후 wakeUp으로) 찾아 제한된 동시성으로 S3에 올린 뒤 stored로 바꾼다.
+ * 실패하면 AudioRetryPolicy의 지연만큼 next_attempt_at을 미루고 다시 시도하며, 파일은 배송될 때까지 지우지 않는다.
+ * 스풀 디렉터리는 노드 로컬이므로 spool_node가 이 노드인 레코드만 조회하고,
+ * 그런데도 파일이 없으면 배송할 수 없으므로 레코드를 failed로 확정한다.
+ */
+@Slf4j
+@Component
+public class AudioSpoolShipper {
+
+    private final AudioRecordDao audioRecordDao;
+    private final S3AudioStorageService s3AudioStorageService;
+    private final AudioRetryPolicy audioRetryPolicy;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "audio-spool-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ExecutorService shippers;
+
+    // 이 노드에서 배송 중인 레코드
+    private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 레코드별 연속 배송 실패 횟수 (다음 시도 시각은 DB next_attempt_at)
+    private final Map<Integer, Integer> failures = new ConcurrentHashMap<>();
+
+    @Value("${audio.spool.enabled:false}")
+    private boolean enabled;
+
+    @Value("${audio.spool.ship-concurrency:4}")
+    private int shipConcurrency;
+
+    @Value("${audio.spool.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    @Value("${audio.spool.node-id:}")
+    private String nodeId;
+
+    public AudioSpoolShipper(AudioRecordDao audioRecordDao,
+                             S3AudioStorageService s3AudioStorageService,
+                             AudioRetryPolicy audioRetryPolicy) {
+        this.audioRecordDao = audioRecordDao;
+        this.s3AudioStorageService = s3AudioStorageService;
+        this.audioRetryPolicy = audioRetryPolicy;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!StringUtils.hasText(nodeId)) {
+            nodeId = resolveHostName();
+        }
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        shippers = Executors.newFixedThreadPool(Math.max(1, shipConcurrency), r -> {
+            Thread thread = new Thread(r, "audio-spool-shipper-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Audio spool shipper started - node: {}, concurrency: {}, pollInterval: {}ms",
+                nodeId, shipConcurrency, pollIntervalMs);
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        poller.shutdownNow();
+        if (shippers != null) {
+            shippers.shutdownNow();
+        }
+    }
+
+    /**
+     * 새 스풀 파일이 생겼을 때 다음 주기를 기다리지 않고 바로 배송
+     */
+    public void wakeUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            poller.execute(this::poll);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * 스풀 파일 소유 노드 ID - 스풀 업로드 시 레코드의 spool_node로 저장
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void poll() {
+        try {
+            int free = shipConcurrency - inFlight.size();
+            if (free <= 0) {
+                return;
+            }
+            // 백오프 중인 레코드와 다른 노드의 레코드는 쿼리에서 빠지므로, 배송 중인 것만큼만 더 조회
+            List<AudioRecordDto> spooled = audioRecordDao.selectSpooledRecords(nodeId, free + inFlight.size());
+            for (AudioRecordDto record : spooled) {
+                if (free <= 0) {
+                    break;
+                }
+                Integer recordId = record.getRecordId();
+                if (!inFlight.add(recordId)) {
+                    continue;
+                }
+                if (record.getSpoolPath() == null || !Files.exists(Paths.get(record.getSpoolPath()))) {
+                    inFlight.remove(recordId);
+                    markLost(record);
+                    continue;
+                }
+                free--;
+                try {
+                    shippers.execute(() -> ship(record));
+                } catch (RejectedExecutionException e) {
+                    // 종료 중
+                    inFlight.remove(recordId);
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Audio spool poll failed", e);
+        }
+    }
+
+    private void ship(AudioRecordDto record) {
+        Integer recordId = record.getRecordId();
+        Path path = Paths.get(record.getSpoolPath());
+        try {
+            String contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .map(MediaType::toString)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            String key = "audio/" + record.getWardId() + "/" + record.getContentHash() + "." + record.getFileFormat();
+
+            String fileUrl = s3AudioStorageService.uploadAudio(new PathMultipartFile(path, contentType), key);
+            audioRecordDao.markShipped(recordId, fileUrl);
+            failures.remove(recordId);
+
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete shipped spool file: {}", path, e);
+            }
+            log.info("Spooled audio shipped - recordId: {}, url: {}", recordId, fileUrl);
+        } catch (Exception e) {
+            int failed = failures.merge(recordId, 1, Integer::sum);
+            long delaySeconds = Math.max(1, audioRetryPolicy.nextDelay(failed).toSeconds());
+            log.warn("Spooled audio shipping failed - recordId: {}, attempt: {}, retry in {}s: {}",
+                    recordId, failed, delaySeconds, e.getMessage());
+            try {
+                audioRecordDao.deferShipping(recordId, delaySeconds);
+            } catch (Exception deferError) {
+                log.error("Failed to defer spool shipping - recordId: {}", recordId, deferError);
+            }
+        } finally {
+            inFlight.remove(recordId);
+        }
+    }
+
+    /**
+     * 이 노드의 스풀 레코드인데 파일이 없음 (디스크 유실 등) - 다시 올릴 방법이 없으므로 실패로 확정
+     * 방금 배송을 끝내고 파일을 지운 경우에는 이미 stored라 0건
+     */
+    private void markLost(AudioRecordDto record) {
+        int affected = audioRecordDao.markSpoolLost(record.getRecordId(),
+                "Spool file lost before upload: " + record.getSpoolPath());
+        if (affected == 1) {
+            failures.remove(record.getRecordId());
+            log.error("Spool file missing, record marked failed - recordId: {}, path: {}",
+                    record.getRecordId(), record.getSpoolPath());
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
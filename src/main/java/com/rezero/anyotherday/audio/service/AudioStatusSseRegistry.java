@@ -0,0 +1,381 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레코드 처리 상태 SSE 구독 관리
+ * - 연결은 서블릿 비동기 요청(SseEmitter)이라 대기 중인 연결이 스레드를 잡지 않음
+ * - 무엇을 보낼지(상태 비교, 하트비트, 동기화)는 전용 스레드 하나에서 정하고,
+ *   실제 전송은 연결별 대기열에 넣어 작은 전송 풀에서 보냄 (느린 클라이언트 하나가 다른 구독자를 막지 않도록)
+ * - send-timeout-ms 안에 끝나지 않는 전송이 있거나 대기열이 가득 찬 연결은 끊음
+ * - 다른 노드에서 처리된 레코드도 놓치지 않도록 구독 중인 레코드 상태를 주기적으로 한 번의 쿼리로 확인
+ */
+@Slf4j
+@Component
+public class AudioStatusSseRegistry {
+
+    // 연결 하나에 쌓아 둘 수 있는 미전송 이벤트 수 (넘으면 읽지 않는 클라이언트로 보고 끊음)
+    private static final int MAX_PENDING_PER_CLIENT = 32;
+
+    private final AudioRecordService audioRecordService;
+
+    private final Map<Integer, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "audio-status-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ExecutorService sendPool;
+
+    // 연결 하나의 최대 유지 시간 (지나면 클라이언트가 재연결)
+    @Value("${audio.sse.timeout-ms:300000}")
+    private long timeoutMs;
+
+    // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 이벤트 주기
+    @Value("${audio.sse.heartbeat-ms:20000}")
+    private long heartbeatMs;
+
+    // 구독 중인 레코드의 DB 상태 확인 주기 (다른 노드 처리분 반영)
+    @Value("${audio.sse.reconcile-ms:5000}")
+    private long reconcileMs;
+
+    // 노드당 최대 동시 구독 수
+    @Value("${audio.sse.max-connections:5000}")
+    private int maxConnections;
+
+    // 전송 풀 크기 (동시에 막혀 있을 수 있는 느린 연결 수)
+    @Value("${audio.sse.send-threads:4}")
+    private int sendThreads;
+
+    // 이벤트 하나를 보내는 데 허용하는 시간 (넘으면 연결을 끊음)
+    @Value("${audio.sse.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    public AudioStatusSseRegistry(AudioRecordService audioRecordService) {
+        this.audioRecordService = audioRecordService;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        sendPool = Executors.newFixedThreadPool(Math.max(1, sendThreads), r -> {
+            Thread thread = new Thread(r, "audio-status-sse-send-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sendCheckMs = Math.max(100, Math.min(1000, sendTimeoutMs / 2));
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::reconcile, reconcileMs, reconcileMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::dropStalledClients, sendCheckMs, sendCheckMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        sendPool.shutdownNow();
+        subscriptions.values().forEach(sub -> sub.clients.keySet().forEach(SseEmitter::complete));
+        subscriptions.clear();
+    }
+
+    /**
+     * 레코드 상태 구독
+     * 현재 상태를 바로 한 번 보내고, 이미 끝난 레코드면 그 자리에서 스트림을 닫음
+     *
+     * @param current 구독 시점의 레코드 상태
+     * @throws IllegalStateException 동시 구독 수 상한을 넘었을 때
+     */
+    public SseEmitter subscribe(AudioStatusEventDto current) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("Too many status subscriptions (max " + maxConnections + ")");
+        }
+
+        Integer recordId = current.getRecordId();
+        SseEmitter emitter = createEmitter();
+        Client client = new Client(recordId, emitter);
+        emitter.onCompletion(() -> remove(recordId, emitter));
+        emitter.onTimeout(() -> remove(recordId, emitter));
+        emitter.onError(e -> remove(recordId, emitter));
+
+        subscriptions.compute(recordId, (id, sub) -> {
+            Subscription target = sub != null ? sub : new Subscription();
+            target.clients.put(emitter, client);
+            return target;
+        });
+
+        submit(() -> {
+            Subscription sub = subscriptions.get(recordId);
+            if (sub != null && sub.lastStatus == null) {
+                sub.lastStatus = current.getStatus();
+                sub.lastReportId = current.getReportId();
+            }
+            enqueue(client, SseEmitter.event().name("status").data(current), current.isTerminal());
+        });
+        return emitter;
+    }
+
+    /**
+     * 상태 변경 이벤트 수신 (발행 스레드에서는 전송 작업만 넘기고 바로 반환)
+     */
+    @EventListener
+    public void onStatusChanged(AudioStatusEventDto event) {
+        if (subscriptions.containsKey(event.getRecordId())) {
+            submit(() -> broadcast(event));
+        }
+    }
+
+    // 테스트에서 전송을 가로챌 수 있도록 분리
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    public int getSubscribedRecordCount() {
+        return subscriptions.size();
+    }
+
+    private void broadcast(AudioStatusEventDto event) {
+        Subscription sub = subscriptions.get(event.getRecordId());
+        if (sub == null || sub.isSameAsLast(event)) {
+            return;
+        }
+        sub.lastStatus = event.getStatus();
+        sub.lastReportId = event.getReportId();
+        for (Client client : sub.clients.values()) {
+            enqueue(client, SseEmitter.event().name("status").data(event), event.isTerminal());
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscription sub : subscriptions.values()) {
+            for (Client client : sub.clients.values()) {
+                // 보낼 이벤트가 밀려 있는 연결은 하트비트가 필요 없음
+                if (!client.isBusy()) {
+                    enqueue(client, SseEmitter.event().comment("keepalive"), false);
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송이 send-timeout-ms를 넘긴 연결을 끊음
+     */
+    private void dropStalledClients() {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (Subscription sub : subscriptions.values()) {
+            for (Client client : sub.clients.values()) {
+                long startedAt = client.sendStartedNanos;
+                if (startedAt != 0 && now - startedAt > timeoutNanos) {
+                    log.warn("Dropping slow SSE client - recordId: {}, send blocked for {}ms",
+                            client.recordId, TimeUnit.NANOSECONDS.toMillis(now - startedAt));
+                    drop(client, new TimeoutException("SSE send timed out after " + sendTimeoutMs + "ms"));
+                }
+            }
+        }
+    }
+
+    /**
+     * 구독 중인 레코드 상태를 DB에서 한 번에 읽어 바뀐 것만 전송
+     */
+    private void reconcile() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            List<AudioStatusEventDto> statuses = audioRecordService.getRecordStatuses(Set.copyOf(subscriptions.keySet()));
+            statuses.forEach(this::broadcast);
+        } catch (Exception e) {
+            log.warn("Failed to reconcile SSE subscriptions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 연결의 대기열에 이벤트를 넣고, 보내는 중이 아니면 전송 풀에서 비우기 시작
+     *
+     * @param completeAfter 보낸 뒤 스트림을 닫을지 (완료/실패 상태)
+     */
+    private void enqueue(Client client, SseEmitter.SseEventBuilder event, boolean completeAfter) {
+        boolean full;
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            full = client.pending.size() >= MAX_PENDING_PER_CLIENT;
+            if (!full) {
+                client.pending.addLast(new Outgoing(event, completeAfter));
+                if (client.draining) {
+                    return;
+                }
+                client.draining = true;
+            }
+        }
+        // drop은 구독 목록을 고치므로 client 잠금 밖에서 호출
+        if (full) {
+            log.warn("Dropping slow SSE client - recordId: {}, {} events pending", client.recordId, MAX_PENDING_PER_CLIENT);
+            drop(client, new IllegalStateException("SSE client is not keeping up"));
+            return;
+        }
+        try {
+            sendPool.execute(() -> drain(client));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 연결 하나의 대기열을 순서대로 전송 (한 연결은 한 번에 한 스레드만 보냄)
+     */
+    private void drain(Client client) {
+        while (true) {
+            Outgoing next;
+            Throwable closeReason = null;
+            synchronized (client) {
+                next = client.closed ? null : client.pending.pollFirst();
+                if (next == null) {
+                    client.draining = false;
+                    closeReason = client.closeReason;
+                }
+            }
+            if (next == null) {
+                // 전송 중에 끊긴 연결은 막혀 있던 전송이 끝난 뒤 여기서 닫음 (SseEmitter는 전송 중에 닫을 수 없음)
+                if (closeReason != null) {
+                    client.emitter.completeWithError(closeReason);
+                }
+                return;
+            }
+
+            client.sendStartedNanos = System.nanoTime();
+            try {
+                client.emitter.send(next.event);
+                if (next.completeAfter) {
+                    client.emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 끊김
+                drop(client, e);
+            } finally {
+                client.sendStartedNanos = 0;
+            }
+        }
+    }
+
+    /**
+     * 연결을 구독 목록에서 바로 빼고 더 보내지 않음
+     * 보내는 중이면 그 전송이 끝난 뒤 drain이 스트림을 닫음
+     */
+    private void drop(Client client, Throwable reason) {
+        boolean sending;
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            client.closed = true;
+            client.pending.clear();
+            sending = client.draining;
+            if (sending) {
+                client.closeReason = reason;
+            }
+        }
+        remove(client.recordId, client.emitter);
+        if (!sending) {
+            client.emitter.completeWithError(reason);
+        }
+    }
+
+    private void remove(Integer recordId, SseEmitter emitter) {
+        Client[] removed = new Client[1];
+        subscriptions.computeIfPresent(recordId, (id, sub) -> {
+            removed[0] = sub.clients.remove(emitter);
+            if (removed[0] != null) {
+                connections.decrementAndGet();
+            }
+            return sub.clients.isEmpty() ? null : sub;
+        });
+        // 닫힌 연결에는 더 넣지 않음 (client 잠금은 compute 밖에서)
+        if (removed[0] != null) {
+            synchronized (removed[0]) {
+                removed[0].closed = true;
+                removed[0].pending.clear();
+            }
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            scheduler.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 레코드 하나의 구독자 목록과 마지막으로 보낸 상태
+     * lastStatus/lastReportId는 scheduler 스레드에서만 읽고 씀
+     */
+    private static class Subscription {
+        private final Map<SseEmitter, Client> clients = new ConcurrentHashMap<>();
+        private String lastStatus;
+        private Integer lastReportId;
+
+        private boolean isSameAsLast(AudioStatusEventDto event) {
+            return Objects.equals(lastStatus, event.getStatus()) && Objects.equals(lastReportId, event.getReportId());
+        }
+    }
+
+    /**
+     * 연결 하나의 전송 대기열
+     * pending/draining/closed/closeReason은 이 객체를 잠그고 읽고 씀
+     */
+    private static final class Client {
+        private final Integer recordId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Outgoing> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private Throwable closeReason;
+
+        // 진행 중인 전송의 시작 시각 (System.nanoTime, 보내는 중이 아니면 0)
+        private volatile long sendStartedNanos;
+
+        private Client(Integer recordId, SseEmitter emitter) {
+            this.recordId = recordId;
+            this.emitter = emitter;
+        }
+
+        private synchronized boolean isBusy() {
+            return draining || !pending.isEmpty();
+        }
+    }
+
+    private record Outgoing(SseEmitter.SseEventBuilder event, boolean completeAfter) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.rezero.anyotherday.audio.service;
+
+/**
+ * 작업의 처리 시간 예산(ProcessingDeadline)을 다 썼을 때
+ * 남은 예산으로 줄인 AI 응답 타임아웃이 끝난 경우도 포함 (서버 장애/과부하로 세지 않음)
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,62 @@
+package com.rezero.anyotherday.audio.service;
+
+import java.time.Duration;
+
+/**
+ * 작업 하나에 주어진 처리 시간 예산
+ * 디스패처가 점유한 작업을 ward 레인에 넣을 때 만들어 처리 서비스에 넘기고, 파이프라인의 각 단계가 시작 전에 확인한다.
+ * AI 호출에는 남은 시간만 타임아웃으로 넘기므로 오래 기다린 작업이 워커를 몇 분씩 잡고 있지 않는다.
+ * 예산은 업로드(created_at) 시점이 아니라 이 노드가 작업을 점유해 레인에 넣은 시점부터 센다.
+ * DB 큐에서 기다린 시간은 업로드 수용 제어와 재시도 백오프가 따로 제한하며,
+ * 그 시간까지 예산에 넣으면 백오프 뒤 재시도하는 작업은 시작하기도 전에 만료된다.
+ * 레인에서 앞 작업을 기다린 시간(lane_wait)은 예산에 포함된다.
+ */
+public final class ProcessingDeadline {
+
+    private final long deadlineNanos;
+    private final Duration budget;
+
+    private ProcessingDeadline(Duration budget) {
+        this.budget = budget;
+        this.deadlineNanos = System.nanoTime() + budget.toNanos();
+    }
+
+    public static ProcessingDeadline after(Duration budget) {
+        return new ProcessingDeadline(budget);
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * 예산이 시작된 뒤 지난 시간 (예산을 넘을 수 있음)
+     */
+    public Duration elapsed() {
+        return budget.minusNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 남은 시간 (지났으면 0)
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 예산이 남아 있는지 확인
+     *
+     * @param stage 지금 시작하려는 단계 이름 (에러 메시지용)
+     * @throws DeadlineExceededException 예산을 다 썼을 때
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(
+                    "Processing deadline exceeded before " + stage + " (budget " + budget.toMillis() + "ms)");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.ProcessingEventDto;
+import com.rezero.anyotherday.audio.dto.StageLatencySummaryDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProcessingEventService {
+
+    /**
+     * 한 번의 처리에서 모은 단계 이벤트 일괄 저장
+     */
+    void recordEvents(List<ProcessingEventDto> events);
+
+    List<ProcessingEventDto> getTimeline(Integer recordId);
+
+    /**
+     * 기간 내 단계별 소요 시간 백분위
+     *
+     * @param wardId null이면 전체 피보호자
+     */
+    List<StageLatencySummaryDto> getStageSummary(LocalDateTime from, LocalDateTime to, Integer wardId);
+}
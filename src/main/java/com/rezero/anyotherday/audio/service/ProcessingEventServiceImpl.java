@@ -0,0 +1,51 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dao.ProcessingEventDao;
+import com.rezero.anyotherday.audio.dto.ProcessingEventDto;
+import com.rezero.anyotherday.audio.dto.StageLatencySummaryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessingEventServiceImpl implements ProcessingEventService {
+
+    private final ProcessingEventDao processingEventDao;
+
+    // 요약 조회 기간 상한 (너무 넓은 구간을 한 번에 읽지 않도록)
+    @Value("${audio.timeline.max-summary-days:31}")
+    private int maxSummaryDays;
+
+    @Override
+    public void recordEvents(List<ProcessingEventDto> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        processingEventDao.insertEvents(events);
+    }
+
+    @Override
+    public List<ProcessingEventDto> getTimeline(Integer recordId) {
+        return processingEventDao.getEventsByRecordId(recordId);
+    }
+
+    @Override
+    public List<StageLatencySummaryDto> getStageSummary(LocalDateTime from, LocalDateTime to, Integer wardId) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).toDays() > maxSummaryDays) {
+            throw new IllegalArgumentException("Summary window must be at most " + maxSummaryDays + " days");
+        }
+
+        // 행을 가져오지 않고 DB에서 단계별로 집계 (기간 안의 이벤트 수와 관계없이 단계 수만큼만 반환)
+        return processingEventDao.getStageSummaries(from, to, wardId);
+    }
+}
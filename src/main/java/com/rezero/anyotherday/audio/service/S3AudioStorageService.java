@@ -1,7 +1,24 @@
 package com.rezero.anyotherday.audio.service;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URL;
+import java.util.Date;
+
 public interface S3AudioStorageService {
     String uploadAudio(MultipartFile file, String key);
-}
\ No newline at end of file
+
+    // 클라이언트가 S3에 직접 PUT 하도록 서명된 URL (Content-Type 헤더도 서명에 포함)
+    URL generateUploadUrl(String key, String contentType, Date expiration);
+
+    // HEAD - 객체가 없으면 null
+    ObjectMetadata getObjectMetadata(String key);
+
+    // 객체의 일부 바이트 (Range GET - 헤더 검사용)
+    byte[] readRange(String key, long offset, int length);
+
+    String getUrl(String key);
+
+    void deleteObject(String key);
+}
@@ -1,7 +1,19 @@
 package com.rezero.anyotherday.audio.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,18 +21,73 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3AudioStorageServiceImpl implements S3AudioStorageService {
 
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
     private final AmazonS3 amazonS3;
 
     @Value("${cloud.aws.s3.bucket:audio-bucket}")
     private String bucket;
 
+    // 이 크기 이상이면 멀티파트로 나눠 병렬 업로드
+    @Value("${audio.s3.multipart.enabled:true}")
+    private boolean multipartEnabled;
+
+    @Value("${audio.s3.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    // S3는 마지막 파트를 제외하고 5MB 이상이어야 함
+    @Value("${audio.s3.multipart.part-size-bytes:5242880}")
+    private int partSizeBytes;
+
+    // 노드 전체에서 동시에 올리는 파트 수 (메모리 사용량은 최대 concurrency × part-size)
+    @Value("${audio.s3.multipart.concurrency:4}")
+    private int partConcurrency;
+
+    private ExecutorService partUploadExecutor;
+    private Semaphore partPermits;
+
+    @PostConstruct
+    public void init() {
+        if (partSizeBytes < MIN_PART_SIZE) {
+            log.warn("audio.s3.multipart.part-size-bytes {} is below the S3 minimum, using {}", partSizeBytes, MIN_PART_SIZE);
+            partSizeBytes = MIN_PART_SIZE;
+        }
+        partConcurrency = Math.max(1, partConcurrency);
+        AtomicInteger threadCount = new AtomicInteger();
+        partUploadExecutor = Executors.newFixedThreadPool(partConcurrency, r -> {
+            Thread thread = new Thread(r, "s3-part-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        partPermits = new Semaphore(partConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploadExecutor.shutdownNow();
+    }
+
     @Override
     public String uploadAudio(MultipartFile file, String key) {
         try {
@@ -34,7 +101,11 @@ public class S3AudioStorageServiceImpl implements S3AudioStorageService {
 
             log.info("Uploading file to S3: bucket={}, key={}, size={}", bucket, key, file.getSize());
 
-            amazonS3.putObject(bucket, key, file.getInputStream(), meta);
+            if (multipartEnabled && file.getSize() >= multipartThresholdBytes) {
+                uploadMultipart(file, key, meta);
+            } else {
+                amazonS3.putObject(bucket, key, file.getInputStream(), meta);
+            }
 
             String url = amazonS3.getUrl(bucket, key).toString();
             log.info("File uploaded successfully: {}", url);
@@ -48,4 +119,179 @@ public class S3AudioStorageServiceImpl implements S3AudioStorageService {
             throw new RuntimeException("S3 upload failed: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 멀티파트 병렬 업로드
+     * 허가(permit)를 먼저 얻은 뒤에 파트 크기만큼 읽어 풀에 넘기므로, 버퍼 메모리는 동시성 x 파트 크기를 넘지 않음
+     * 한 파트라도 실패하면 남은 파트를 읽지 않고 업로드를 중단(abort)해 S3에 미완성 파트가 남지 않게 함
+     * 중단할 때 아직 시작하지 않은 파트는 건너뛰게 하고(허가는 여기서 반납), 올리는 중인 파트는 끝난 뒤에 abort
+     */
+    private void uploadMultipart(MultipartFile file, String key, ObjectMetadata meta) throws IOException {
+        ObjectMetadata initMeta = new ObjectMetadata();
+        initMeta.setContentType(meta.getContentType());
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, initMeta)).getUploadId();
+        log.info("Multipart upload started - key: {}, uploadId: {}, partSize: {}", key, uploadId, partSizeBytes);
+
+        List<PartUpload> parts = new ArrayList<>();
+        try (InputStream in = file.getInputStream()) {
+            long remaining = file.getSize();
+            int partNumber = 1;
+            while (remaining > 0) {
+                partPermits.acquire();
+                try {
+                    throwIfAnyFailed(parts);
+                    byte[] buffer = in.readNBytes((int) Math.min(partSizeBytes, remaining));
+                    if (buffer.length == 0) {
+                        throw new IOException("Unexpected end of upload stream at part " + partNumber);
+                    }
+                    remaining -= buffer.length;
+
+                    UploadPartRequest request = new UploadPartRequest()
+                            .withBucketName(bucket)
+                            .withKey(key)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber++)
+                            .withPartSize(buffer.length)
+                            .withInputStream(new ByteArrayInputStream(buffer))
+                            .withLastPart(remaining == 0);
+
+                    PartUpload part = new PartUpload();
+                    part.future = partUploadExecutor.submit(() -> {
+                        if (!part.claimed.compareAndSet(false, true)) {
+                            return null; // 시작 전에 업로드가 중단됨 - 허가는 중단한 쪽이 반납
+                        }
+                        try {
+                            return amazonS3.uploadPart(request).getPartETag();
+                        } finally {
+                            partPermits.release();
+                        }
+                    });
+                    parts.add(part);
+                } catch (Exception e) {
+                    // 제출하지 못한 파트의 허가 반납
+                    partPermits.release();
+                    throw e;
+                }
+            }
+
+            List<PartETag> etags = new ArrayList<>();
+            for (PartUpload part : parts) {
+                etags.add(part.future.get());
+            }
+            etags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags));
+            log.info("Multipart upload completed - key: {}, parts: {}", key, etags.size());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            settleParts(parts);
+            abortQuietly(key, uploadId);
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            throw new IOException("Multipart upload failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 이미 끝난 파트 중 실패한 것이 있으면 바로 예외 (남은 파트를 더 읽지 않도록)
+     */
+    private static void throwIfAnyFailed(List<PartUpload> parts) throws ExecutionException, InterruptedException {
+        for (PartUpload part : parts) {
+            if (part.future.isDone()) {
+                part.future.get();
+            }
+        }
+    }
+
+    /**
+     * 업로드 중단 전 정리
+     * 시작하지 않은 파트는 먼저 claim해서 실행되지 않게 하고 허가를 반납 (cancel된 작업은 finally가 돌지 않아 허가가 샘)
+     * 이미 올리는 중인 파트는 끝날 때까지 기다림 (abort 뒤에 파트가 올라가 남지 않도록)
+     */
+    private void settleParts(List<PartUpload> parts) {
+        List<PartUpload> started = new ArrayList<>();
+        for (PartUpload part : parts) {
+            if (part.claimed.compareAndSet(false, true)) {
+                partPermits.release();
+            } else {
+                started.add(part);
+            }
+        }
+        // claim한 파트는 실행되지 않거나 바로 끝나므로 기다리지 않음 (풀이 종료되어 영영 실행되지 않을 수도 있음)
+        boolean interrupted = Thread.interrupted();
+        for (PartUpload part : started) {
+            while (true) {
+                try {
+                    part.future.get();
+                    break;
+                } catch (ExecutionException e) {
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 제출한 파트 하나
+     * 허가는 먼저 claim한 쪽(파트를 실행하는 작업 또는 업로드를 중단하는 쪽)이 한 번만 반납
+     */
+    private static final class PartUpload {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private Future<PartETag> future;
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            log.warn("Multipart upload aborted - key: {}, uploadId: {}", key, uploadId);
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload - key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    @Override
+    public URL generateUploadUrl(String key, String contentType, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        return amazonS3.generatePresignedUrl(request);
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String key) {
+        try {
+            return amazonS3.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] readRange(String key, long offset, int length) {
+        GetObjectRequest request = new GetObjectRequest(bucket, key).withRange(offset, offset + length - 1);
+        try (S3Object object = amazonS3.getObject(request)) {
+            return object.getObjectContent().readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("S3 range read failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        amazonS3.deleteObject(bucket, key);
+    }
+}
@@ -0,0 +1,112 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.ai.service.AdaptiveConcurrencyLimiter;
+import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 수용 여부 판단
+ * S3 업로드와 레코드 생성 전에 파이프라인 여유를 확인해, 처리하지 못할 만큼 밀려 있으면 거절하고
+ * 언제 다시 시도하면 되는지(Retry-After) 계산
+ * - 대기 작업 수: 처리 시점이 된 pending 레코드(DB, 전 노드 공통) + 이 노드의 ward 레인 대기
+ * - AI 호출 대기: 적응형 동시성 리미터에서 자리를 기다리는 호출 수
+ */
+@Slf4j
+@Component
+public class UploadAdmissionPolicy {
+
+    private final AudioRecordDao audioRecordDao;
+    private final AudioJobDispatcher audioJobDispatcher;
+    private final WardLaneExecutor wardLaneExecutor;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
+    @Value("${audio.admission.enabled:true}")
+    private boolean enabled;
+
+    // 이보다 많이 밀려 있으면 새 업로드를 받지 않음
+    @Value("${audio.admission.max-backlog:200}")
+    private int maxBacklog;
+
+    // AI 호출 대기가 이보다 많으면 새 업로드를 받지 않음
+    @Value("${audio.admission.max-ai-waiting:50}")
+    private int maxAiWaiting;
+
+    // 대기 작업 수를 DB에서 다시 세는 주기 (업로드마다 COUNT 하지 않도록)
+    @Value("${audio.admission.backlog-refresh-ms:2000}")
+    private long backlogRefreshMs;
+
+    @Value("${audio.admission.max-retry-after-seconds:300}")
+    private long maxRetryAfterSeconds;
+
+    private final AtomicLong cachedBacklog = new AtomicLong();
+    private final AtomicLong backlogCountedAt = new AtomicLong();
+
+    public UploadAdmissionPolicy(AudioRecordDao audioRecordDao,
+                                 AudioJobDispatcher audioJobDispatcher,
+                                 WardLaneExecutor wardLaneExecutor,
+                                 AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) {
+        this.audioRecordDao = audioRecordDao;
+        this.audioJobDispatcher = audioJobDispatcher;
+        this.wardLaneExecutor = wardLaneExecutor;
+        this.adaptiveConcurrencyLimiter = adaptiveConcurrencyLimiter;
+    }
+
+    /**
+     * 업로드를 받을 수 있는지 확인
+     *
+     * @return 받을 수 있으면 null, 아니면 다시 시도할 때까지 기다릴 시간
+     */
+    public Duration checkAdmission() {
+        if (!enabled) {
+            return null;
+        }
+
+        long backlog = getBacklog() + wardLaneExecutor.getQueuedTaskCount();
+        if (backlog >= maxBacklog) {
+            Duration retryAfter = estimateDrainTime(backlog - maxBacklog + 1);
+            log.warn("Rejecting upload - backlog: {}, max: {}, retryAfter: {}s", backlog, maxBacklog, retryAfter.toSeconds());
+            return retryAfter;
+        }
+
+        int aiWaiting = adaptiveConcurrencyLimiter.getWaiting();
+        if (aiWaiting >= maxAiWaiting) {
+            Duration retryAfter = estimateDrainTime(aiWaiting - maxAiWaiting + 1);
+            log.warn("Rejecting upload - AI waiting: {}, max: {}, retryAfter: {}s", aiWaiting, maxAiWaiting, retryAfter.toSeconds());
+            return retryAfter;
+        }
+        return null;
+    }
+
+    /**
+     * 초과분 작업이 빠지는 데 걸릴 시간 추정
+     * 작업 하나 ≈ AI 호출 기준 지연, 동시에 max-in-flight개씩 처리된다고 가정
+     */
+    private Duration estimateDrainTime(long excessJobs) {
+        long jobMs = Math.max(1000, adaptiveConcurrencyLimiter.getBaselineLatencyMs());
+        int parallelism = Math.max(1, audioJobDispatcher.getMaxInFlight());
+        long seconds = (long) Math.ceil(excessJobs * jobMs / 1000.0 / parallelism);
+        return Duration.ofSeconds(Math.min(maxRetryAfterSeconds, Math.max(1, seconds)));
+    }
+
+    /**
+     * 처리 시점이 된 pending 레코드 수 (backlog-refresh-ms 동안 캐시)
+     */
+    private long getBacklog() {
+        long now = System.currentTimeMillis();
+        long countedAt = backlogCountedAt.get();
+        if (now - countedAt >= backlogRefreshMs && backlogCountedAt.compareAndSet(countedAt, now)) {
+            try {
+                cachedBacklog.set(audioRecordDao.countDuePendingRecords());
+            } catch (Exception e) {
+                // 카운트 실패로 업로드를 막지 않음 - 직전 값 사용
+                log.warn("Failed to count pending audio records: {}", e.getMessage());
+            }
+        }
+        return cachedBacklog.get();
+    }
+}
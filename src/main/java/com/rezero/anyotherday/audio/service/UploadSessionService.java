@@ -0,0 +1,33 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.UploadSessionDto;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+
+/**
+ * 이어받기(resumable) 업로드
+ * 세션 생성 → offset을 붙여 청크 전송 (끊기면 세션 조회로 offset 확인 후 이어서) → 완료
+ */
+public interface UploadSessionService {
+
+    UploadSessionDto createSession(Integer wardId,
+            String fileName,
+            String contentType,
+            long totalBytes,
+            LocalDateTime recordedAt);
+
+    // 없으면 null
+    UploadSessionDto getSession(String sessionId);
+
+    /**
+     * 청크 추가
+     *
+     * @param offset 청크의 시작 위치 - 세션의 receivedBytes와 같아야 함
+     */
+    UploadSessionDto appendChunk(String sessionId, long offset, InputStream chunk);
+
+    // 모두 받은 파일로 오디오 레코드 생성 (이미 완료된 세션이면 그 레코드)
+    AudioRecordDto completeSession(String sessionId);
+}
@@ -0,0 +1,338 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dao.UploadSessionDao;
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import com.rezero.anyotherday.audio.dto.UploadSessionDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이어받기 업로드 구현
+ * - 세션 상태(받은 바이트 수)는 upload_session에, 받은 청크는 세션별 파일 하나에 offset 위치로 기록
+ *   (청크를 스트림으로 바로 디스크에 쓰므로 파일 전체를 메모리에 올리지 않음)
+ * - 청크 도중 연결이 끊기면 그때까지 디스크에 쓴 만큼을 반영해, 클라이언트는 세션 조회로 얻은 offset부터 이어서 보냄
+ * - 완료 시 기존 업로드 경로(uploadAndCreateRecord - 중복 판별, 스풀, 멀티파트 업로드)로 넘김
+ * - 청크 파일은 노드 로컬이므로 한 세션의 요청은 같은 노드로 가야 함 (sticky routing)
+ * - 만료 처리는 아무 노드나 하므로, 노드마다 자기 디스크의 청크 파일 중 세션이 더 이상 open이 아닌 것을 따로 지움
+ */
+@Slf4j
+@Service
+public class UploadSessionServiceImpl implements UploadSessionService {
+
+    private static final int SWEEP_BATCH = 100;
+
+    private final UploadSessionDao uploadSessionDao;
+    private final AudioRecordService audioRecordService;
+
+    // 같은 세션에 청크가 동시에 들어오면 하나만 받음
+    private final Map<String, ReentrantLock> sessionLocks = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "upload-session-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${audio.upload-session.dir:${java.io.tmpdir}/anyotherday-upload-sessions}")
+    private String sessionDir;
+
+    // 마지막 청크 이후 이 시간 동안 이어서 보내지 않으면 만료
+    @Value("${audio.upload-session.ttl-hours:24}")
+    private long ttlHours;
+
+    // 클라이언트에 권장하는 청크 크기
+    @Value("${audio.upload-session.chunk-size-bytes:1048576}")
+    private int chunkSizeBytes;
+
+    @Value("${audio.upload-session.sweep-interval-ms:600000}")
+    private long sweepIntervalMs;
+
+    @Value("${audio.upload.max-bytes:20971520}")
+    private long maxUploadBytes;
+
+    public UploadSessionServiceImpl(UploadSessionDao uploadSessionDao, AudioRecordService audioRecordService) {
+        this.uploadSessionDao = uploadSessionDao;
+        this.audioRecordService = audioRecordService;
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public UploadSessionDto createSession(Integer wardId,
+            String fileName,
+            String contentType,
+            long totalBytes,
+            LocalDateTime recordedAt) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("fileName is required");
+        }
+        if (totalBytes <= 0 || totalBytes > maxUploadBytes) {
+            throw new IllegalArgumentException("totalBytes must be between 1 and " + maxUploadBytes);
+        }
+
+        UploadSessionDto session = UploadSessionDto.builder()
+                .sessionId(UUID.randomUUID().toString())
+                .wardId(wardId)
+                .fileName(fileName)
+                .contentType(contentType)
+                .totalBytes(totalBytes)
+                .recordedAt(recordedAt)
+                .build();
+        uploadSessionDao.createSession(session, ttlSeconds());
+        log.info("Upload session created - sessionId: {}, wardId: {}, totalBytes: {}",
+                session.getSessionId(), wardId, totalBytes);
+        return getSession(session.getSessionId());
+    }
+
+    @Override
+    public UploadSessionDto getSession(String sessionId) {
+        UploadSessionDto session = uploadSessionDao.getSession(sessionId);
+        if (session != null) {
+            session.setChunkSize(chunkSizeBytes);
+        }
+        return session;
+    }
+
+    @Override
+    public UploadSessionDto appendChunk(String sessionId, long offset, InputStream chunk) {
+        requireOpenSession(sessionId);
+
+        ReentrantLock lock = sessionLocks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new IllegalStateException("Another chunk for this session is in progress");
+        }
+        try {
+            // 락을 얻기 전에 끝난 청크/완료가 반영됐을 수 있으므로 락 안에서 다시 조회
+            UploadSessionDto session = requireOpenSession(sessionId);
+            if (offset != session.getReceivedBytes()) {
+                throw new IllegalStateException("Offset mismatch - expected " + session.getReceivedBytes() + ", got " + offset);
+            }
+
+            long remaining = session.getTotalBytes() - offset;
+            long written = 0;
+            IOException interrupted = null;
+
+            try (FileChannel channel = FileChannel.open(partPath(sessionId),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.position(offset);
+                byte[] buffer = new byte[64 * 1024];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                while (true) {
+                    int read;
+                    try {
+                        read = chunk.read(buffer);
+                    } catch (IOException e) {
+                        // 클라이언트 연결 끊김 - 여기까지 받은 만큼은 반영
+                        interrupted = e;
+                        break;
+                    }
+                    if (read == -1) {
+                        break;
+                    }
+                    if (written + read > remaining) {
+                        throw new IllegalArgumentException("Chunk exceeds declared totalBytes " + session.getTotalBytes());
+                    }
+                    byteBuffer.clear().limit(read);
+                    while (byteBuffer.hasRemaining()) {
+                        channel.write(byteBuffer);
+                    }
+                    written += read;
+                }
+                // DB의 offset이 디스크에 실제로 남은 바이트를 넘지 않도록 반영 전에 fsync
+                channel.force(false);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to store chunk: " + e.getMessage(), e);
+            }
+
+            if (written > 0 && uploadSessionDao.advanceOffset(sessionId, offset, offset + written, ttlSeconds()) == 0) {
+                throw new IllegalStateException("Upload session changed while receiving chunk");
+            }
+            if (interrupted != null) {
+                log.info("Chunk interrupted - sessionId: {}, kept {} bytes at offset {}: {}",
+                        sessionId, written, offset, interrupted.getMessage());
+            }
+            return getSession(sessionId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public AudioRecordDto completeSession(String sessionId) {
+        UploadSessionDto session = uploadSessionDao.getSession(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Upload session not found: " + sessionId);
+        }
+        // 완료 응답을 못 받은 클라이언트의 재시도
+        if ("completed".equals(session.getStatus())) {
+            AudioRecordDto record = audioRecordService.getRecordById(session.getRecordId());
+            record.setDuplicate(true);
+            return record;
+        }
+        if (!"open".equals(session.getStatus())) {
+            throw new IllegalStateException("Upload session is " + session.getStatus());
+        }
+        if (session.getReceivedBytes() != session.getTotalBytes()) {
+            throw new IllegalStateException("Upload incomplete - received " + session.getReceivedBytes()
+                    + " of " + session.getTotalBytes() + " bytes");
+        }
+
+        ReentrantLock lock = sessionLocks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            throw new IllegalStateException("Upload session is busy");
+        }
+        try {
+            // 락을 얻는 사이 다른 요청이 완료했거나 만료됐을 수 있음
+            session = uploadSessionDao.getSession(sessionId);
+            if ("completed".equals(session.getStatus())) {
+                AudioRecordDto record = audioRecordService.getRecordById(session.getRecordId());
+                record.setDuplicate(true);
+                return record;
+            }
+            if (!"open".equals(session.getStatus())) {
+                throw new IllegalStateException("Upload session is " + session.getStatus());
+            }
+
+            Path part;
+            try {
+                part = partPath(sessionId);
+            } catch (IOException e) {
+                throw new RuntimeException("Upload session file not accessible: " + e.getMessage(), e);
+            }
+            AudioRecordDto record = audioRecordService.uploadAndCreateRecord(session.getWardId(),
+                    new PathMultipartFile(part, session.getFileName(), session.getContentType()),
+                    session.getRecordedAt());
+            uploadSessionDao.markCompleted(sessionId, record.getRecordId());
+            deleteQuietly(part);
+            log.info("Upload session completed - sessionId: {}, recordId: {}", sessionId, record.getRecordId());
+            return record;
+        } finally {
+            lock.unlock();
+            sessionLocks.remove(sessionId, lock);
+        }
+    }
+
+    private UploadSessionDto requireOpenSession(String sessionId) {
+        UploadSessionDto session = uploadSessionDao.getSession(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Upload session not found: " + sessionId);
+        }
+        if (!"open".equals(session.getStatus())) {
+            throw new IllegalStateException("Upload session is " + session.getStatus());
+        }
+        return session;
+    }
+
+    private Path partPath(String sessionId) throws IOException {
+        Path dir = Paths.get(sessionDir);
+        Files.createDirectories(dir);
+        // sessionId는 서버가 만든 UUID지만 경로로 쓰기 전에 한 번 더 확인
+        return dir.resolve(UUID.fromString(sessionId) + ".part");
+    }
+
+    private long ttlSeconds() {
+        return Duration.ofHours(ttlHours).toSeconds();
+    }
+
+    /**
+     * 만료된 세션 정리 - 상태를 expired로 바꾸고, 이 노드 디스크에서 open이 아닌 세션의 청크 파일 삭제
+     */
+    private void sweepExpired() {
+        try {
+            List<String> expired;
+            do {
+                expired = uploadSessionDao.selectExpiredSessionIds(SWEEP_BATCH);
+                if (expired.isEmpty()) {
+                    break;
+                }
+                uploadSessionDao.markExpired(expired);
+                log.info("Expired {} abandoned upload sessions", expired.size());
+            } while (expired.size() == SWEEP_BATCH);
+
+            deleteOrphanedPartFiles();
+        } catch (Exception e) {
+            log.error("Upload session sweep failed", e);
+        }
+    }
+
+    /**
+     * 세션이 없거나 open이 아닌 청크 파일 삭제
+     * 다른 노드가 만료시킨 세션의 파일도 여기서 지워짐
+     */
+    private void deleteOrphanedPartFiles() throws IOException {
+        Path dir = Paths.get(sessionDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        List<String> sessionIds = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.part")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                sessionIds.add(name.substring(0, name.length() - ".part".length()));
+            }
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < sessionIds.size(); from += SWEEP_BATCH) {
+            List<String> batch = sessionIds.subList(from, Math.min(from + SWEEP_BATCH, sessionIds.size()));
+            Set<String> open = new HashSet<>(uploadSessionDao.selectOpenSessionIds(batch));
+            for (String sessionId : batch) {
+                if (open.contains(sessionId)) {
+                    continue;
+                }
+                ReentrantLock lock = sessionLocks.get(sessionId);
+                if (lock != null && lock.isLocked()) {
+                    continue;
+                }
+                sessionLocks.remove(sessionId);
+                deleteQuietly(dir.resolve(sessionId + ".part"));
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} upload session file(s) whose session is no longer open", deleted);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload session file: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.rezero.anyotherday.audio.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 피보호자(ward)별 순차 실행기
+ * 같은 wardId의 작업은 제출 순서대로 하나씩 실행하고, 서로 다른 ward는 asyncExecutor에서 병렬로 실행한다.
+ * 앞선 녹음의 리포트가 저장된 뒤에 다음 녹음이 RAG 히스토리를 조회하도록 보장하기 위함
+ * 작업이 없는 ward의 레인은 바로 제거되므로 레인 수는 실행 중/대기 중인 ward 수와 같다.
+ */
+@Slf4j
+@Component
+public class WardLaneExecutor {
+
+    private final Executor asyncExecutor;
+    private final ConcurrentHashMap<Integer, Lane> lanes = new ConcurrentHashMap<>();
+
+    public WardLaneExecutor(@Qualifier("asyncExecutor") Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * ward 레인에 작업 추가
+     *
+     * @throws RejectedExecutionException 레인을 새로 시작해야 하는데 asyncExecutor가 거부했을 때
+     */
+    public void execute(Integer wardId, Runnable task) {
+        Lane[] toStart = new Lane[1];
+        lanes.compute(wardId, (key, lane) -> {
+            Lane target = lane != null ? lane : new Lane(key);
+            target.queue.addLast(task);
+            if (!target.running) {
+                target.running = true;
+                toStart[0] = target;
+            }
+            return target;
+        });
+
+        if (toStart[0] == null) {
+            return;
+        }
+
+        try {
+            asyncExecutor.execute(() -> runLane(toStart[0]));
+        } catch (RejectedExecutionException e) {
+            // 레인이 막 시작하려던 참이었으므로 대기 중인 작업은 방금 넣은 것뿐
+            lanes.compute(wardId, (key, lane) -> {
+                lane.queue.remove(task);
+                lane.running = false;
+                return lane.queue.isEmpty() ? null : lane;
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * 레인별 대기 작업 수 (실행 중인 작업 제외)
+     */
+    public Map<Integer, Integer> getQueueDepths() {
+        // 레인 상태는 항상 compute 안에서만 읽고 씀
+        Map<Integer, Integer> depths = new LinkedHashMap<>();
+        for (Integer wardId : lanes.keySet()) {
+            lanes.computeIfPresent(wardId, (key, lane) -> {
+                depths.put(key, lane.queue.size());
+                return lane;
+            });
+        }
+        return depths;
+    }
+
+    public int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    public int getQueuedTaskCount() {
+        return getQueueDepths().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 레인의 작업을 비워질 때까지 순서대로 실행
+     */
+    private void runLane(Lane lane) {
+        while (true) {
+            Runnable[] next = new Runnable[1];
+            lanes.compute(lane.wardId, (key, current) -> {
+                next[0] = current.queue.pollFirst();
+                if (next[0] == null) {
+                    current.running = false;
+                    return null;
+                }
+                return current;
+            });
+
+            if (next[0] == null) {
+                return;
+            }
+
+            try {
+                next[0].run();
+            } catch (Throwable t) {
+                log.error("Task failed in ward lane - wardId: {}", lane.wardId, t);
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final Integer wardId;
+        private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        private boolean running;
+
+        private Lane(Integer wardId) {
+            this.wardId = wardId;
+        }
+    }
+}
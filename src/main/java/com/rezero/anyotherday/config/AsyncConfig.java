@@ -1,22 +1,46 @@
 package com.rezero.anyotherday.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 /**
  * 비동기 처리 설정
  * AI 서버 호출을 비동기로 처리하기 위한 스레드 풀 설정
+ * ai.executor.mode
+ *  - platform (기본): 고정 크기 플랫폼 스레드 풀
+ *  - virtual: 작업마다 가상 스레드 생성 + 세마포어로 동시 실행 개수 제한 (JDK 21 필요)
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    @Value("${ai.executor.mode:platform}")
+    private String executorMode;
+
+    // virtual 모드에서 동시에 실행되는 AI 파이프라인 작업 최대 개수
+    @Value("${ai.executor.virtual.max-concurrency:200}")
+    private int virtualMaxConcurrency;
+
+    // 종료 시 실행 중인 작업을 기다리는 최대 시간 (초)
+    // 작업 하나의 처리 예산(audio.pipeline.deadline-ms)보다 짧으면 AI 응답을 기다리던 작업이 중간에 끊김
+    @Value("${ai.executor.await-termination-seconds:360}")
+    private int awaitTerminationSeconds;
+
     @Bean(name = "asyncExecutor")
     public Executor asyncExecutor() {
+        if ("virtual".equalsIgnoreCase(executorMode)) {
+            return virtualThreadExecutor();
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 기본 스레드 개수
@@ -35,9 +59,40 @@ public class AsyncConfig {
         executor.setWaitForTasksToCompleteOnShutdown(true);
 
         // 마지막 작업이 완료될 때까지 최대 대기 시간 (초)
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
 
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 가상 스레드 실행기
+     * AI 호출(blocking RestTemplate)로 오래 대기해도 스택이 힙에 저장되므로 작업당 수 KB 수준
+     * 세마포어 대기도 가상 스레드 안에서 하므로 제출하는 쪽(디스패처)은 막히지 않음
+     */
+    private Executor virtualThreadExecutor() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException(
+                    "ai.executor.mode=virtual requires JDK 21+ (build with -PjavaVersion=21)");
+        }
+
+        Semaphore permits = new Semaphore(virtualMaxConcurrency);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AI-Virtual-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(task -> () -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+
+        // 종료 시 실행 중인 작업을 기다리는 시간 (플랫폼 모드와 동일)
+        executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+
+        log.info("asyncExecutor running on virtual threads - maxConcurrency: {}", virtualMaxConcurrency);
+        return executor;
+    }
 }
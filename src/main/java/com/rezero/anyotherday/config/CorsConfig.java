@@ -23,6 +23,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Retry-After")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -49,6 +50,9 @@ public class CorsConfig implements WebMvcConfigurer {
         configuration.addAllowedHeader("*");
         configuration.addAllowedHeader("Content-Type");
         configuration.addAllowedHeader("Authorization");
+
+        // 429 응답의 재시도 시간을 프론트에서 읽을 수 있도록 노출
+        configuration.addExposedHeader("Retry-After");
         
         // 자격증명 허용
         configuration.setAllowCredentials(true);
@@ -0,0 +1,78 @@
+package com.rezero.anyotherday.config;
+
+import com.rezero.anyotherday.ai.service.AICircuitBreaker;
+import com.rezero.anyotherday.ai.service.AdaptiveConcurrencyLimiter;
+import com.rezero.anyotherday.audio.service.AudioJobDispatcher;
+import com.rezero.anyotherday.audio.service.AudioSpoolShipper;
+import com.rezero.anyotherday.audio.service.AudioStatusSseRegistry;
+import com.rezero.anyotherday.audio.service.WardLaneExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 파이프라인 상태 게이지 설정 (/actuator/prometheus로 노출)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder audioPipelineGauges(AudioJobDispatcher audioJobDispatcher,
+                                           WardLaneExecutor wardLaneExecutor,
+                                           AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+                                           AICircuitBreaker aiCircuitBreaker,
+                                           AudioStatusSseRegistry audioStatusSseRegistry,
+                                           AudioSpoolShipper audioSpoolShipper,
+                                           @Qualifier("asyncExecutor") Executor asyncExecutor) {
+        return registry -> {
+            // 점유했지만 아직 끝나지 않은 작업 (실행 중 + 레인 대기)
+            Gauge.builder("audio.jobs.in.flight", audioJobDispatcher, AudioJobDispatcher::getInFlight)
+                    .description("Claimed audio jobs not yet finished")
+                    .register(registry);
+            Gauge.builder("audio.jobs.queued", wardLaneExecutor, WardLaneExecutor::getQueuedTaskCount)
+                    .description("Audio jobs waiting in ward lanes")
+                    .register(registry);
+            Gauge.builder("audio.jobs.lanes.active", wardLaneExecutor, WardLaneExecutor::getActiveLaneCount)
+                    .description("Ward lanes with running or queued jobs")
+                    .register(registry);
+
+            // 플랫폼 스레드 풀 모드일 때만 풀 상태 노출
+            if (asyncExecutor instanceof ThreadPoolTaskExecutor pool) {
+                Gauge.builder("audio.executor.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                        .description("Active threads in asyncExecutor")
+                        .register(registry);
+                Gauge.builder("audio.executor.queued", pool, ThreadPoolTaskExecutor::getQueueSize)
+                        .description("Tasks queued in asyncExecutor")
+                        .register(registry);
+                Gauge.builder("audio.executor.pool.size", pool, ThreadPoolTaskExecutor::getPoolSize)
+                        .register(registry);
+            }
+
+            Gauge.builder("ai.limiter.limit", adaptiveConcurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive AI concurrency limit")
+                    .register(registry);
+            Gauge.builder("ai.limiter.in.flight", adaptiveConcurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .register(registry);
+            Gauge.builder("ai.limiter.waiting", adaptiveConcurrencyLimiter, AdaptiveConcurrencyLimiter::getWaiting)
+                    .register(registry);
+
+            Gauge.builder("audio.sse.connections", audioStatusSseRegistry, AudioStatusSseRegistry::getConnectionCount)
+                    .description("Open record status SSE connections")
+                    .register(registry);
+
+            Gauge.builder("audio.spool.shipping", audioSpoolShipper, AudioSpoolShipper::getInFlight)
+                    .description("Spooled uploads currently being shipped to S3")
+                    .register(registry);
+
+            // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+            Gauge.builder("ai.breaker.state", aiCircuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("AI circuit breaker state (0 closed, 1 open, 2 half-open)")
+                    .register(registry);
+        };
+    }
+}
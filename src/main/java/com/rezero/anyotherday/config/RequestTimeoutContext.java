@@ -0,0 +1,41 @@
+package com.rezero.anyotherday.config;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 나가는 AI 서버 요청의 응답 타임아웃
+ * RestTemplate은 요청마다 타임아웃을 받지 않으므로, 호출하는 쪽이 여기에 남은 시간을 걸어두면
+ * RestTemplateConfig의 HttpContext 팩토리가 읽어 해당 요청에만 적용한다.
+ */
+public final class RequestTimeoutContext {
+
+    private static final ThreadLocal<Duration> CURRENT = new ThreadLocal<>();
+
+    private RequestTimeoutContext() {
+    }
+
+    /**
+     * timeout을 건 상태로 call 실행
+     */
+    public static <T> T call(Duration timeout, Supplier<T> call) {
+        Duration previous = CURRENT.get();
+        CURRENT.set(timeout);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에 걸린 타임아웃, 없으면 null
+     */
+    public static Duration current() {
+        return CURRENT.get();
+    }
+}
@@ -3,15 +3,25 @@ package com.rezero.anyotherday.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * RestTemplate 설정
  * AI 서버 호출을 위한 HTTP 클라이언트
@@ -19,21 +29,70 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
 
+    // 전체 최대 커넥션 수
+    @Value("${ai.http.max-connections:50}")
+    private int maxConnections;
+
+    // 호스트(route)당 최대 커넥션 수 - AI 서버는 하나이므로 사실상 AI 동시 호출 상한
+    @Value("${ai.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    // 이 시간 동안 쓰이지 않은 keep-alive 커넥션은 정리
+    @Value("${ai.http.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    // 기본 응답(읽기) 타임아웃 - 요청마다 RequestTimeoutContext로 더 짧게 줄일 수 있음
+    @Value("${ai.server.timeout:300000}")
+    private long responseTimeoutMs;
+
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate(clientHttpRequestFactory());
     }
 
     /**
-     * 요청/응답 로깅을 위한 BufferingClientHttpRequestFactory 설정
-     * 타임아웃: 연결 10초, 읽기 300초(5분)
+     * 커넥션 풀을 쓰는 Apache HttpClient 5 기반 요청 팩토리
+     * 요청/응답 본문을 메모리에 버퍼링하지 않고 스트림으로 주고받음
+     * 타임아웃: 연결 10초, 읽기 ai.server.timeout (RequestTimeoutContext가 걸려 있으면 그 값)
      */
     @Bean
     public ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(10000);
-        factory.setReadTimeout(300000);
-        return new BufferingClientHttpRequestFactory(factory);
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(aiHttpClient());
+        factory.setHttpContextFactory((method, uri) -> {
+            Duration timeout = RequestTimeoutContext.current();
+            if (timeout == null) {
+                return null;
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(Math.max(1, timeout.toMillis())))
+                    .build());
+            return context;
+        });
+        return factory;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(10000))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        // 재사용 전에 오래 쉰 커넥션은 살아있는지 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
     }
 
     /**
@@ -1,8 +1,11 @@
 CREATE DATABASE IF NOT EXISTS rezero_db;
 USE rezero_db;
 
+DROP TABLE IF EXISTS diagnosis_cache;
+DROP TABLE IF EXISTS processing_event;
 DROP TABLE IF EXISTS ai_report;
 DROP TABLE IF EXISTS audio_record;
+DROP TABLE IF EXISTS upload_session;
 DROP TABLE IF EXISTS ward;
 DROP TABLE IF EXISTS guardian;
 
@@ -65,6 +68,26 @@ CREATE TABLE audio_record (
 
     transcript_text TEXT NULL,
 
+    -- 업로드 시 헤더에서 읽은 오디오 정보 (알 수 없으면 NULL)
+    duration_ms     BIGINT NULL,
+    sample_rate     INT NULL,
+    channels        TINYINT NULL,
+
+    -- 파일 내용 SHA-256 (피보호자별 중복 업로드 판별, 이전 레코드는 NULL)
+    content_hash    CHAR(64) NULL,
+
+    -- 저장 위치 (spooled: 로컬 디스크에만 있음, AudioSpoolShipper가 S3로 보낸 뒤 stored / lost: 스풀 파일 유실)
+    -- 스풀 파일은 spool_node 노드의 디스크에만 있으므로 그 노드만 배송
+    storage_status  VARCHAR(20) NOT NULL DEFAULT 'stored',
+    spool_path      VARCHAR(500) NULL,
+    spool_node      VARCHAR(100) NULL,
+
+    -- 작업 큐 (AudioJobDispatcher가 FOR UPDATE SKIP LOCKED로 점유)
+    attempt_count    INT NOT NULL DEFAULT 0 COMMENT '일시적 오류로 재시도한 횟수',
+    next_attempt_at  DATETIME NULL,
+    locked_by        VARCHAR(100) NULL,
+    lease_expires_at DATETIME NULL,
+
     CONSTRAINT fk_ward_to_audio_record
         FOREIGN KEY (ward_id)
         REFERENCES ward(ward_id)
@@ -73,6 +96,12 @@ CREATE TABLE audio_record (
 
 CREATE INDEX idx_record_ward ON audio_record(ward_id);
 CREATE INDEX idx_record_recent ON audio_record(ward_id, uploaded_at);
+CREATE INDEX idx_record_queue ON audio_record(status, next_attempt_at);
+CREATE INDEX idx_record_lease ON audio_record(status, lease_expires_at);
+CREATE UNIQUE INDEX uq_record_content ON audio_record(ward_id, content_hash);
+-- 같은 객체로 레코드가 두 번 생기지 않도록 (presigned 업로드 완료 요청이 동시에 와도 한 건만 저장)
+CREATE UNIQUE INDEX uq_record_file ON audio_record(ward_id, file_url);
+CREATE INDEX idx_record_storage ON audio_record(storage_status, spool_node);
 
 -- ---------------------------------------------
 -- ai_report
@@ -96,6 +125,74 @@ CREATE TABLE ai_report (
 CREATE INDEX idx_report_record ON ai_report(record_id);
 CREATE INDEX idx_report_recent ON ai_report(created_at);
 
+-- ---------------------------------------------
+-- processing_event
+-- ---------------------------------------------
+CREATE TABLE processing_event (
+    event_id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    record_id        INT NOT NULL,
+    ward_id          INT NOT NULL,
+    attempt          INT NOT NULL DEFAULT 1 COMMENT '몇 번째 처리 시도인지',
+
+    stage            VARCHAR(50) NOT NULL COMMENT 'fetch_record, ai_call, save_report, total ...',
+    started_at       DATETIME(3) NOT NULL,
+    ended_at         DATETIME(3) NOT NULL,
+    duration_ms      BIGINT NOT NULL,
+    outcome          VARCHAR(30) NOT NULL,
+
+    CONSTRAINT fk_record_to_processing_event
+        FOREIGN KEY (record_id)
+        REFERENCES audio_record(record_id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_event_record ON processing_event(record_id, started_at);
+CREATE INDEX idx_event_stage ON processing_event(started_at, stage);
+CREATE INDEX idx_event_ward ON processing_event(ward_id, started_at);
+
+-- ---------------------------------------------
+-- diagnosis_cache
+-- ---------------------------------------------
+CREATE TABLE diagnosis_cache (
+    fingerprint      CHAR(64) PRIMARY KEY COMMENT 'SHA-256(모델 버전, 오디오 내용, 자가진단, 이전 리포트 요약)',
+    response_json    JSON NOT NULL,
+    hit_count        INT NOT NULL DEFAULT 0,
+
+    created_at       DATETIME DEFAULT CURRENT_TIMESTAMP,
+    last_hit_at      DATETIME NULL,
+    expires_at       DATETIME NOT NULL
+);
+
+CREATE INDEX idx_cache_expires ON diagnosis_cache(expires_at);
+
+-- ---------------------------------------------
+-- upload_session
+-- ---------------------------------------------
+CREATE TABLE upload_session (
+    session_id       CHAR(36) PRIMARY KEY,
+    ward_id          INT NOT NULL,
+
+    file_name        VARCHAR(255) NOT NULL,
+    content_type     VARCHAR(100) NULL,
+    recorded_at      DATETIME NULL,
+
+    total_bytes      BIGINT NOT NULL,
+    received_bytes   BIGINT NOT NULL DEFAULT 0 COMMENT '다음 청크의 offset',
+    status           ENUM('open', 'completed', 'expired') NOT NULL DEFAULT 'open',
+    record_id        INT NULL COMMENT 'completed일 때 생성된 audio_record',
+
+    created_at       DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at       DATETIME DEFAULT CURRENT_TIMESTAMP,
+    expires_at       DATETIME NOT NULL,
+
+    CONSTRAINT fk_ward_to_upload_session
+        FOREIGN KEY (ward_id)
+        REFERENCES ward(ward_id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_session_expires ON upload_session(status, expires_at);
+
 
 INSERT INTO guardian (name, email, password, phone)
 VALUES ('테스트 보호자', 'test@test.com', 'pass123', '010-0000-0000');
@@ -0,0 +1,270 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.rezero.anyotherday.ai.dto.CircuitBreakerStatusDto;
+import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.audio.service.DeadlineExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AICircuitBreaker 검증 - 실패율로 열림, OPEN -> HALF_OPEN 헬스 체크 -> CLOSED / 다시 OPEN 전이
+ */
+class AICircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MS = 100;
+
+    private FakeAIService aiService;
+    private AICircuitBreaker breaker;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        aiService = new FakeAIService();
+        breaker = new AICircuitBreaker(aiService);
+        ReflectionTestUtils.setField(breaker, "enabled", true);
+        ReflectionTestUtils.setField(breaker, "windowSize", 4);
+        ReflectionTestUtils.setField(breaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(breaker, "failureRateThreshold", 50.0);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", OPEN_DURATION_MS);
+        breaker.init();
+        calls = new AtomicInteger();
+    }
+
+    // ===== CLOSED -> OPEN =====
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        fail(new ResourceAccessException("Connection refused"));
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+        assertEquals(AICircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        fail(new ResourceAccessException("Connection refused"));
+        fail(new ResourceAccessException("Connection refused"));
+        fail(new ResourceAccessException("Connection refused"));
+
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(3, breaker.getStatus().getFailedCalls());
+    }
+
+    @Test
+    void clientErrorsAndDeadlineTimeoutsAreNotFailures() {
+        fail(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        fail(new IllegalStateException("parse error"));
+        fail(new DeadlineExceededException("deadline", new ResourceAccessException("Read timed out")));
+        fail(new DeadlineExceededException("deadline"));
+        succeed();
+
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.getState());
+        CircuitBreakerStatusDto status = breaker.getStatus();
+        assertEquals(1, status.getBufferedCalls());
+        assertEquals(0, status.getFailedCalls());
+    }
+
+    @Test
+    void oldFailuresSlideOutOfWindow() {
+        fail(new ResourceAccessException("Connection refused"));
+        succeed();
+        succeed();
+        succeed();
+        // 창이 가득 찬 뒤 가장 오래된 실패가 빠짐
+        succeed();
+
+        CircuitBreakerStatusDto status = breaker.getStatus();
+        assertEquals(4, status.getBufferedCalls());
+        assertEquals(0, status.getFailedCalls());
+    }
+
+    @Test
+    void openCircuitRejectsWithoutCallingServer() {
+        openCircuit();
+
+        AIUnavailableException e = assertThrows(AIUnavailableException.class, () -> breaker.execute(this::countedCall));
+
+        assertEquals(0, calls.get());
+        assertTrue(e.getRetryAfter().toMillis() <= OPEN_DURATION_MS);
+        assertEquals(0, aiService.probes.get());
+    }
+
+    // ===== OPEN -> HALF_OPEN -> CLOSED / OPEN =====
+
+    @Test
+    void healthyProbeClosesCircuitAndResetsWindow() throws InterruptedException {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertFalse(breaker.isOpen());
+
+        assertEquals("ok", breaker.execute(this::countedCall));
+
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, aiService.probes.get());
+        assertEquals(1, calls.get());
+        CircuitBreakerStatusDto status = breaker.getStatus();
+        assertEquals(1, status.getBufferedCalls());
+        assertEquals(0, status.getFailedCalls());
+        assertEquals(List.of("CLOSED>OPEN", "OPEN>HALF_OPEN", "HALF_OPEN>CLOSED"), transitions(status));
+    }
+
+    @Test
+    void failedProbeReopensWithoutCallingServer() throws InterruptedException {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        aiService.healthy = false;
+
+        assertThrows(AIUnavailableException.class, () -> breaker.execute(this::countedCall));
+
+        assertEquals(AICircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertEquals(0, calls.get());
+        assertEquals(List.of("CLOSED>OPEN", "OPEN>HALF_OPEN", "HALF_OPEN>OPEN"), transitions(breaker.getStatus()));
+    }
+
+    @Test
+    void probeExceptionCountsAsUnhealthy() throws InterruptedException {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        aiService.probeFailure = new ResourceAccessException("Connection refused");
+
+        assertThrows(AIUnavailableException.class, () -> breaker.execute(this::countedCall));
+
+        assertEquals(AICircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void onlyOneCallerProbesWhileHalfOpen() throws Exception {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch finishProbe = new CountDownLatch(1);
+        aiService.probeStarted = probeStarted;
+        aiService.finishProbe = finishProbe;
+
+        ExecutorService prober = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> probing = prober.submit(() -> breaker.execute(this::countedCall));
+            assertTrue(probeStarted.await(5, TimeUnit.SECONDS));
+            assertEquals(AICircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+            // 헬스 체크 중 다른 호출은 기다리지 않고 바로 보류
+            assertThrows(AIUnavailableException.class, () -> breaker.execute(this::countedCall));
+
+            finishProbe.countDown();
+            assertEquals("ok", probing.get(5, TimeUnit.SECONDS));
+        } finally {
+            prober.shutdownNow();
+        }
+        assertEquals(1, aiService.probes.get());
+        assertEquals(1, calls.get());
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void disabledBreakerPassesEverythingThrough() {
+        ReflectionTestUtils.setField(breaker, "enabled", false);
+        for (int i = 0; i < 10; i++) {
+            fail(new ResourceAccessException("Connection refused"));
+        }
+
+        assertEquals("ok", breaker.execute(this::countedCall));
+        assertFalse(breaker.isOpen());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            fail(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+        assertEquals(AICircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void succeed() {
+        assertEquals("ok", breaker.execute(() -> "ok"));
+    }
+
+    private void fail(RuntimeException failure) {
+        assertThrows(failure.getClass(), () -> breaker.execute(() -> {
+            throw failure;
+        }));
+    }
+
+    private String countedCall() {
+        calls.incrementAndGet();
+        return "ok";
+    }
+
+    private static List<String> transitions(CircuitBreakerStatusDto status) {
+        return status.getTransitions().stream()
+                .map(t -> t.getFrom() + ">" + t.getTo())
+                .toList();
+    }
+
+    /**
+     * 헬스 체크 결과만 정할 수 있는 AIService
+     */
+    private static final class FakeAIService implements AIService {
+        private final AtomicInteger probes = new AtomicInteger();
+        private volatile boolean healthy = true;
+        private volatile RuntimeException probeFailure;
+        private volatile CountDownLatch probeStarted;
+        private volatile CountDownLatch finishProbe;
+
+        @Override
+        public boolean isHealthy() {
+            probes.incrementAndGet();
+            if (probeStarted != null) {
+                probeStarted.countDown();
+                try {
+                    finishProbe.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (probeFailure != null) {
+                throw probeFailure;
+            }
+            return healthy;
+        }
+
+        @Override
+        public DiagnoseResponse diagnose(DiagnoseRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DiagnoseResponse diagnose(DiagnoseRequest request, Duration timeout) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String healthCheck() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
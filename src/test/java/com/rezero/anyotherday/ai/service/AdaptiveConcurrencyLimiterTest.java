@@ -0,0 +1,240 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.rezero.anyotherday.audio.service.DeadlineExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AdaptiveConcurrencyLimiter 검증 - AIMD 증감, 부하와 무관한 실패 무시, 허가 대기 제한
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int INITIAL_LIMIT = 4;
+    private static final long MAX_WAIT_MS = 300;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "initialLimit", INITIAL_LIMIT);
+        ReflectionTestUtils.setField(limiter, "minLimit", 1);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 10);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.5);
+        // 테스트 호출은 모두 1ms 안팎이라 지연으로는 과부하 판정하지 않도록 넉넉하게
+        ReflectionTestUtils.setField(limiter, "latencyTolerance", 1000.0);
+        ReflectionTestUtils.setField(limiter, "maxWaitMs", MAX_WAIT_MS);
+        ReflectionTestUtils.setField(limiter, "maxQueue", 10);
+        limiter.init();
+    }
+
+    // ===== 증감 =====
+
+    @Test
+    void successWhileBusyIncreasesLimitAdditively() {
+        // 안쪽 호출이 끝날 때 2개가 실행 중 -> 허용치(4)의 절반 이상을 쓰고 있으므로 +1/limit
+        for (int i = 0; i < 5; i++) {
+            limiter.execute(() -> limiter.execute(() -> "ok"));
+        }
+
+        assertEquals(INITIAL_LIMIT + 1, limiter.getLimit());
+    }
+
+    @Test
+    void successWhileIdleDoesNotIncreaseLimit() {
+        for (int i = 0; i < 20; i++) {
+            limiter.execute(() -> "ok");
+        }
+
+        assertEquals(INITIAL_LIMIT, limiter.getLimit());
+    }
+
+    @Test
+    void serverFailureCutsLimitMultiplicatively() {
+        failWith(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+        assertEquals(2, limiter.getLimit());
+
+        failWith(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void tooManyRequestsIsOverload() {
+        failWith(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                HttpHeaders.EMPTY, null, null));
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void limitNeverDropsBelowMinimum() {
+        for (int i = 0; i < 10; i++) {
+            failWith(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void clientErrorLeavesLimitAndBaselineUntouched() {
+        failWith(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        failWith(new IllegalStateException("parse error"));
+
+        assertEquals(INITIAL_LIMIT, limiter.getLimit());
+        assertEquals(-1, limiter.getBaselineLatencyMs());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void deadlineShortenedTimeoutIsNotOverload() {
+        failWith(new DeadlineExceededException("deadline",
+                new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"))));
+
+        assertEquals(INITIAL_LIMIT, limiter.getLimit());
+    }
+
+    @Test
+    void onlySuccessfulCallsSetBaseline() {
+        failWith(new ResourceAccessException("Connection refused"));
+        assertEquals(-1, limiter.getBaselineLatencyMs());
+
+        limiter.execute(() -> "ok");
+        assertTrue(limiter.getBaselineLatencyMs() >= 0);
+    }
+
+    // ===== 허가 대기 =====
+
+    @Test
+    void waitForPermitTimesOutAtMaxWait() throws Exception {
+        try (Holder holder = holdAllPermits()) {
+            long start = System.nanoTime();
+            assertThrows(AIUnavailableException.class, () -> limiter.execute(Duration.ofMinutes(5), () -> "late"));
+            long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(waitedMs >= MAX_WAIT_MS - 50, "waited " + waitedMs + "ms");
+            assertTrue(waitedMs < MAX_WAIT_MS + 2000, "waited " + waitedMs + "ms");
+            assertEquals(0, limiter.getWaiting());
+        }
+    }
+
+    @Test
+    void waitForPermitIsBoundedByCallerBudget() throws Exception {
+        try (Holder holder = holdAllPermits()) {
+            long start = System.nanoTime();
+            assertThrows(AIUnavailableException.class, () -> limiter.execute(Duration.ofMillis(50), () -> "late"));
+            long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(waitedMs < MAX_WAIT_MS, "waited " + waitedMs + "ms");
+        }
+    }
+
+    @Test
+    void noBudgetLeftFailsImmediatelyWhenFull() throws Exception {
+        try (Holder holder = holdAllPermits()) {
+            assertThrows(AIUnavailableException.class, () -> limiter.execute(Duration.ZERO, () -> "late"));
+            assertThrows(AIUnavailableException.class, () -> limiter.execute(Duration.ofMillis(-5), () -> "late"));
+        }
+    }
+
+    @Test
+    void waiterProceedsWhenPermitIsReleased() throws Exception {
+        ExecutorService waiterThread = Executors.newSingleThreadExecutor();
+        try (Holder holder = holdAllPermits()) {
+            Future<String> waiter = waiterThread.submit(() -> limiter.execute(Duration.ofSeconds(10), () -> "served"));
+            awaitCondition(() -> limiter.getWaiting() == 1);
+
+            holder.releaseOne();
+
+            assertEquals("served", waiter.get(5, TimeUnit.SECONDS));
+        } finally {
+            waiterThread.shutdownNow();
+        }
+    }
+
+    @Test
+    void fullWaitQueueRejectsWithoutWaiting() throws Exception {
+        ReflectionTestUtils.setField(limiter, "maxQueue", 0);
+        try (Holder holder = holdAllPermits()) {
+            long start = System.nanoTime();
+            assertThrows(AIUnavailableException.class, () -> limiter.execute(() -> "late"));
+
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < MAX_WAIT_MS);
+        }
+    }
+
+    private void failWith(RuntimeException failure) {
+        assertThrows(failure.getClass(), () -> limiter.execute(() -> {
+            throw failure;
+        }));
+    }
+
+    /**
+     * 허용치만큼 호출을 붙잡아 두는 스레드들
+     */
+    private Holder holdAllPermits() throws Exception {
+        Holder holder = new Holder(INITIAL_LIMIT);
+        awaitCondition(() -> limiter.getInFlight() == INITIAL_LIMIT);
+        return holder;
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+
+    private final class Holder implements AutoCloseable {
+        private final ExecutorService threads;
+        private final List<CountDownLatch> gates = new ArrayList<>();
+
+        private Holder(int count) {
+            threads = Executors.newFixedThreadPool(count);
+            for (int i = 0; i < count; i++) {
+                CountDownLatch gate = new CountDownLatch(1);
+                gates.add(gate);
+                threads.submit(() -> limiter.execute(() -> {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        private void releaseOne() {
+            gates.remove(0).countDown();
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            gates.forEach(CountDownLatch::countDown);
+            threads.shutdown();
+            threads.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
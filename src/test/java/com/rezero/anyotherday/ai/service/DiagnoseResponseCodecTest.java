@@ -0,0 +1,130 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.audio.service.AudioRetryPolicy;
+import com.rezero.anyotherday.config.RestTemplateConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * DiagnoseResponseCodec 검증 - 앱과 같은 ObjectMapper 설정(RestTemplateConfig) 사용
+ */
+class DiagnoseResponseCodecTest {
+
+    private static final String BODY = "{\"accuracy\":[0.1,0.2,0.7],\"ASR\":\"안녕하세요\","
+            + "\"risk\":[\"low\",\"low\",\"low\",\"low\"],\"explain\":[\"a\",\"\",null,\"d\"],"
+            + "\"total\":\"정상\",\"summary\":\"요약\"}";
+
+    private final DiagnoseResponseCodec codec = new DiagnoseResponseCodec(new RestTemplateConfig().objectMapper());
+
+    @Test
+    void decodesEnvelope() throws IOException {
+        DiagnoseResponse response = decode("{\"result\":" + BODY + "}");
+
+        assertBody(response);
+    }
+
+    @Test
+    void decodesEnvelopeAfterOtherTopLevelFields() throws IOException {
+        DiagnoseResponse response = decode("{\"request_id\":\"abc\",\"meta\":{\"model\":\"v2\"},\"result\":" + BODY
+                + ",\"elapsed\":1.5}");
+
+        assertBody(response);
+    }
+
+    @Test
+    void decodesBodyWithoutEnvelope() throws IOException {
+        assertBody(decode(BODY));
+    }
+
+    @Test
+    void nullResultFallsBackToTopLevelFields() throws IOException {
+        DiagnoseResponse response = decode("{\"result\":null,\"accuracy\":[0.5,0.3,0.2],\"total\":\"t\"}");
+
+        assertEquals(List.of(0.5, 0.3, 0.2), response.getAccuracy());
+        assertEquals("t", response.getTotal());
+    }
+
+    @Test
+    void ignoresUnknownFields() throws IOException {
+        DiagnoseResponse response = decode("{\"result\":{\"accuracy\":[1.0,0.0,0.0],\"confidence\":0.9,"
+                + "\"extra\":{\"nested\":[1,2]}}}");
+
+        assertEquals(List.of(1.0, 0.0, 0.0), response.getAccuracy());
+    }
+
+    @Test
+    void emptyBodyDecodesToNull() throws IOException {
+        assertNull(decode(""));
+    }
+
+    @Test
+    void malformedJsonIsParseErrorNotServerFailure() {
+        JsonParseException e = assertThrows(JsonParseException.class, () -> decode("{\"request_id\" \"abc\"}"));
+
+        assertNotTransient(e);
+    }
+
+    @Test
+    void truncatedBodyIsProcessingErrorNotServerFailure() {
+        JsonProcessingException e = assertThrows(JsonProcessingException.class,
+                () -> decode("{\"result\": {\"accuracy\": [0.1,"));
+
+        assertNotTransient(e);
+    }
+
+    @Test
+    void mismatchedTypeIsMappingErrorNotServerFailure() {
+        JsonMappingException e = assertThrows(JsonMappingException.class,
+                () -> decode("{\"result\":{\"accuracy\":\"high\"}}"));
+
+        assertNotTransient(e);
+    }
+
+    @Test
+    void nonObjectBodyIsMappingError() {
+        JsonMappingException e = assertThrows(JsonMappingException.class, () -> decode("[0.1, 0.2, 0.7]"));
+
+        assertNotTransient(e);
+    }
+
+    private DiagnoseResponse decode(String json) throws IOException {
+        return codec.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertBody(DiagnoseResponse response) {
+        assertEquals(List.of(0.1, 0.2, 0.7), response.getAccuracy());
+        assertEquals("안녕하세요", response.getAsr());
+        assertEquals(List.of("low", "low", "low", "low"), response.getRisk());
+        // explain은 질병 순서를 유지하도록 빈 문자열/null도 그대로
+        assertEquals(Arrays.asList("a", "", null, "d"), response.getExplain());
+        assertEquals("정상", response.getTotal());
+        assertEquals("요약", response.getSummary());
+    }
+
+    /**
+     * 응답 파싱 오류는 서버 장애가 아님 - 서킷 브레이커 실패로 세지 않고, 재시도해도 결과가 같으므로 재시도하지 않음
+     */
+    private static void assertNotTransient(Exception e) {
+        // AIServiceImpl은 디코딩 예외를 원인 없이 RuntimeException으로 바꿔 던짐
+        RuntimeException wrapped = new RuntimeException("Error during AI diagnosis: " + e.getMessage(),
+                new RuntimeException("Failed to parse AI response: " + e.getMessage()));
+
+        assertFalse(AICircuitBreaker.isServerFailure(e));
+        assertFalse(AICircuitBreaker.isServerFailure(wrapped));
+        assertFalse(new AudioRetryPolicy().isRetryable(wrapped));
+    }
+}
@@ -0,0 +1,243 @@
+package com.rezero.anyotherday.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rezero.anyotherday.ai.dao.DiagnosisCacheDao;
+import com.rezero.anyotherday.ai.dto.DiagnoseRequest;
+import com.rezero.anyotherday.ai.dto.DiagnoseResponse;
+import com.rezero.anyotherday.ai.dto.DiagnosisCacheEntryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * DiagnosisCache 검증 - 메모리 → DB 조회 순서, DB 적중 시 남은 TTL로 메모리 승격, 만료/LRU/DB 오류 처리
+ */
+class DiagnosisCacheTest {
+
+    private static final long TTL_HOURS = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FakeDiagnosisCacheDao dao;
+    private DiagnosisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        dao = new FakeDiagnosisCacheDao();
+        cache = new DiagnosisCache(dao, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttlHours", TTL_HOURS);
+        ReflectionTestUtils.setField(cache, "modelVersion", "1");
+        cache.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    // ===== 메모리 / DB =====
+
+    @Test
+    void putIsServedFromMemoryAndPersistedWithTtl() {
+        cache.put("fp", response("정상"));
+
+        assertEquals("정상", cache.get("fp").getTotal());
+        assertEquals(0, dao.lookups.get());
+        assertEquals(TTL_HOURS * 3600, dao.entries.get("fp").getRemainingSeconds());
+        assertStats(1, 0, 0);
+    }
+
+    @Test
+    void dbHitIsPromotedToMemory() throws JsonProcessingException {
+        dao.store("fp", response("주의"), 3600);
+
+        assertEquals("주의", cache.get("fp").getTotal());
+        assertEquals("주의", cache.get("fp").getTotal());
+
+        assertEquals(1, dao.lookups.get());
+        assertEquals(1, dao.touches.get());
+        assertStats(1, 1, 0);
+    }
+
+    @Test
+    void promotedEntryExpiresWithDbEntry() throws Exception {
+        // DB에 1초 남은 항목 - 메모리에서도 1초 뒤 만료되어야 함 (TTL 전체로 늘어나지 않음)
+        dao.store("fp", response("주의"), 1);
+        cache.get("fp");
+        dao.entries.remove("fp");
+
+        Thread.sleep(1100);
+
+        assertNull(cache.get("fp"));
+        assertEquals(2, dao.lookups.get());
+        assertStats(0, 1, 1);
+    }
+
+    @Test
+    void dbEntryWithNoTimeLeftIsNotPromoted() throws JsonProcessingException {
+        dao.store("fp", response("주의"), 0);
+
+        cache.get("fp");
+        cache.get("fp");
+
+        assertEquals(2, dao.lookups.get());
+        assertStats(0, 2, 0);
+    }
+
+    @Test
+    void missGoesToDbEveryTime() {
+        assertNull(cache.get("fp"));
+        assertNull(cache.get("fp"));
+
+        assertEquals(2, dao.lookups.get());
+        assertStats(0, 0, 2);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        cache.put("a", response("a"));
+        cache.put("b", response("b"));
+        cache.get("a");
+        cache.put("c", response("c"));
+        dao.entries.clear();
+
+        assertEquals("a", cache.get("a").getTotal());
+        assertEquals("c", cache.get("c").getTotal());
+        assertNull(cache.get("b"));
+    }
+
+    // ===== 오류 / 비활성 =====
+
+    @Test
+    void dbLookupFailureIsMiss() {
+        dao.failure = new QueryTimeoutException("lookup timed out");
+
+        assertNull(cache.get("fp"));
+        assertStats(0, 0, 1);
+    }
+
+    @Test
+    void persistFailureStillServesFromMemory() {
+        dao.failure = new QueryTimeoutException("upsert timed out");
+
+        cache.put("fp", response("정상"));
+
+        assertEquals("정상", cache.get("fp").getTotal());
+    }
+
+    @Test
+    void disabledCacheNeitherReadsNorWrites() throws JsonProcessingException {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        dao.store("fp", response("주의"), 3600);
+
+        cache.put("other", response("정상"));
+
+        assertNull(cache.get("fp"));
+        assertEquals(0, dao.lookups.get());
+        assertEquals(1, dao.entries.size());
+    }
+
+    // ===== 지문 =====
+
+    @Test
+    void fingerprintIgnoresMapKeyOrderButNotModelVersion() {
+        Map<String, Object> forward = new LinkedHashMap<>();
+        forward.put("answered", true);
+        forward.put("score", 3);
+        Map<String, Object> reversed = new LinkedHashMap<>();
+        reversed.put("score", 3);
+        reversed.put("answered", true);
+
+        String first = cache.fingerprint("audio-hash", request(forward));
+        assertEquals(first, cache.fingerprint("audio-hash", request(reversed)));
+        assertNotEquals(first, cache.fingerprint("other-audio", request(forward)));
+
+        ReflectionTestUtils.setField(cache, "modelVersion", "2");
+        assertNotEquals(first, cache.fingerprint("audio-hash", request(forward)));
+    }
+
+    private void assertStats(long memoryHits, long dbHits, long misses) {
+        Map<String, Object> stats = cache.getStats();
+        assertEquals(memoryHits, stats.get("memoryHits"));
+        assertEquals(dbHits, stats.get("dbHits"));
+        assertEquals(misses, stats.get("misses"));
+    }
+
+    private static DiagnoseResponse response(String total) {
+        return DiagnoseResponse.builder()
+                .accuracy(List.of(0.1, 0.2, 0.7))
+                .total(total)
+                .build();
+    }
+
+    private static DiagnoseRequest request(Map<String, Object> selfReport) {
+        return DiagnoseRequest.builder()
+                .audioPath("s3://bucket/audio/1/a.wav")
+                .selfReport(selfReport)
+                .reportHistory(Map.of("2025-11-27", "주의"))
+                .build();
+    }
+
+    /**
+     * diagnosis_cache 테이블 대신 쓰는 메모리 구현 - 남은 초는 저장한 값을 그대로 돌려줌
+     */
+    private final class FakeDiagnosisCacheDao implements DiagnosisCacheDao {
+        private final Map<String, DiagnosisCacheEntryDto> entries = new HashMap<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicInteger touches = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        private void store(String fingerprint, DiagnoseResponse response, long remainingSeconds)
+                throws JsonProcessingException {
+            upsert(fingerprint, objectMapper.writeValueAsString(response), remainingSeconds);
+        }
+
+        @Override
+        public synchronized DiagnosisCacheEntryDto getEntry(String fingerprint) {
+            lookups.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            return entries.get(fingerprint);
+        }
+
+        @Override
+        public synchronized int touch(String fingerprint) {
+            touches.incrementAndGet();
+            return entries.containsKey(fingerprint) ? 1 : 0;
+        }
+
+        @Override
+        public synchronized int upsert(String fingerprint, String responseJson, long ttlSeconds) {
+            if (failure != null) {
+                throw failure;
+            }
+            entries.put(fingerprint, DiagnosisCacheEntryDto.builder()
+                    .responseJson(responseJson)
+                    .remainingSeconds(ttlSeconds)
+                    .build());
+            return 1;
+        }
+
+        @Override
+        public int deleteExpired() {
+            return 0;
+        }
+    }
+}
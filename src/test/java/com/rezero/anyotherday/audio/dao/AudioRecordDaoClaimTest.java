@@ -0,0 +1,81 @@
+package com.rezero.anyotherday.audio.dao;
+
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 큐 점유 쿼리의 ward별 순서 보장 검증 (H2 MySQL 모드 + 벤치마크 스키마)
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:claim-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=file:src/benchmark/resources/db/benchmark-schema.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(statements = {
+        "INSERT INTO guardian (guardian_id, name, email, password, phone) VALUES (1, 'g', 'g@test', 'pw', '010')",
+        "INSERT INTO ward (ward_id, guardian_id, name, birth_date, age, gender, phone, relationship, diagnosis) VALUES "
+                + "(1, 1, 'w1', '1940-01-01', 85, 'male', '010', 'son', '{}'), "
+                + "(2, 1, 'w2', '1940-01-01', 85, 'female', '010', 'son', '{}')"
+})
+class AudioRecordDaoClaimTest {
+
+    @Autowired
+    private AudioRecordDao audioRecordDao;
+
+    @Test
+    @Sql(statements = {
+            "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status) VALUES "
+                    + "(10, 1, 'a', 'wav', 'pending'), (11, 1, 'b', 'wav', 'pending'), (12, 2, 'c', 'wav', 'pending')"
+    })
+    void claimsOnlyOldestPendingRecordPerWard() {
+        assertThat(claimedIds(10)).containsExactly(10, 12);
+    }
+
+    @Test
+    @Sql(statements = {
+            "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status, attempt_count, next_attempt_at) VALUES "
+                    + "(10, 1, 'a', 'wav', 'pending', 1, TIMESTAMPADD(MINUTE, 5, NOW()))",
+            "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status) VALUES "
+                    + "(11, 1, 'b', 'wav', 'pending'), (12, 2, 'c', 'wav', 'pending')"
+    })
+    void recordInRetryBackoffBlocksLaterRecordsOfSameWard() {
+        assertThat(claimedIds(10)).containsExactly(12);
+    }
+
+    @Test
+    @Sql(statements = {
+            "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status, locked_by, lease_expires_at) VALUES "
+                    + "(10, 1, 'a', 'wav', 'processing', 'other-node', TIMESTAMPADD(MINUTE, 5, NOW()))",
+            "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status) VALUES (11, 1, 'b', 'wav', 'pending')"
+    })
+    void recordProcessingElsewhereBlocksLaterRecordsOfSameWard() {
+        assertThat(claimedIds(10)).isEmpty();
+    }
+
+    @Test
+    @Sql(statements = {
+            "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status) VALUES "
+                    + "(10, 1, 'a', 'wav', 'completed'), (11, 1, 'b', 'wav', 'failed'), (12, 1, 'c', 'wav', 'pending')"
+    })
+    void finishedRecordsDoNotBlock() {
+        assertThat(claimedIds(10)).containsExactly(12);
+    }
+
+    private List<Integer> claimedIds(int limit) {
+        return audioRecordDao.selectClaimableRecords(limit).stream()
+                .map(AudioRecordDto::getRecordId)
+                .toList();
+    }
+}
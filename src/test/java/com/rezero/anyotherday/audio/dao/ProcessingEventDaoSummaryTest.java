@@ -0,0 +1,98 @@
+package com.rezero.anyotherday.audio.dao;
+
+import com.rezero.anyotherday.audio.dto.StageLatencySummaryDto;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단계별 소요 시간 요약 쿼리 검증 (H2 MySQL 모드 + 벤치마크 스키마)
+ */
+@MybatisTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:summary-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=file:src/benchmark/resources/db/benchmark-schema.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(statements = {
+        "INSERT INTO guardian (guardian_id, name, email, password, phone) VALUES (1, 'g', 'g@test', 'pw', '010')",
+        "INSERT INTO ward (ward_id, guardian_id, name, birth_date, age, gender, phone, relationship, diagnosis) VALUES "
+                + "(1, 1, 'w1', '1940-01-01', 85, 'male', '010', 'son', '{}'), "
+                + "(2, 1, 'w2', '1940-01-01', 85, 'female', '010', 'son', '{}')",
+        "INSERT INTO audio_record (record_id, ward_id, file_url, file_format, status) VALUES "
+                + "(10, 1, 'a', 'wav', 'completed'), (20, 2, 'b', 'wav', 'completed')",
+        // ward 1의 ai_call 10건 (10 ~ 100ms, 그중 2건 실패) + total 1건
+        "INSERT INTO processing_event (record_id, ward_id, attempt, stage, started_at, ended_at, duration_ms, outcome) VALUES "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 30, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 100, 'timeout'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 10, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 80, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 50, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 20, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 90, 'server_error'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 40, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 70, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-01 10:00:00', '2026-01-01 10:00:00', 60, 'success'), "
+                + "(10, 1, 1, 'total', '2026-01-01 10:00:00', '2026-01-01 10:00:01', 1000, 'completed')",
+        // 다른 ward / 기간 밖 이벤트
+        "INSERT INTO processing_event (record_id, ward_id, attempt, stage, started_at, ended_at, duration_ms, outcome) VALUES "
+                + "(20, 2, 1, 'ai_call', '2026-01-01 11:00:00', '2026-01-01 11:00:00', 5000, 'success'), "
+                + "(10, 1, 1, 'ai_call', '2026-01-05 10:00:00', '2026-01-05 10:00:00', 9000, 'success')"
+})
+class ProcessingEventDaoSummaryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 1, 2, 0, 0);
+
+    @Autowired
+    private ProcessingEventDao processingEventDao;
+
+    @Test
+    void aggregatesOneRowPerStageWithNearestRankPercentiles() {
+        List<StageLatencySummaryDto> summaries = processingEventDao.getStageSummaries(FROM, TO, 1);
+
+        assertThat(summaries).extracting(StageLatencySummaryDto::getStage).containsExactly("ai_call", "total");
+        StageLatencySummaryDto aiCall = summaries.get(0);
+        assertThat(aiCall.getCount()).isEqualTo(10);
+        assertThat(aiCall.getFailures()).isEqualTo(2);
+        assertThat(aiCall.getAvgMs()).isEqualTo(55);
+        assertThat(aiCall.getP50Ms()).isEqualTo(50);
+        assertThat(aiCall.getP90Ms()).isEqualTo(90);
+        assertThat(aiCall.getP95Ms()).isEqualTo(100);
+        assertThat(aiCall.getP99Ms()).isEqualTo(100);
+        assertThat(aiCall.getMaxMs()).isEqualTo(100);
+    }
+
+    @Test
+    void completedTotalIsNotAFailure() {
+        StageLatencySummaryDto total = processingEventDao.getStageSummaries(FROM, TO, 1).get(1);
+
+        assertThat(total.getCount()).isEqualTo(1);
+        assertThat(total.getFailures()).isZero();
+        assertThat(total.getP50Ms()).isEqualTo(1000);
+        assertThat(total.getP99Ms()).isEqualTo(1000);
+    }
+
+    @Test
+    void withoutWardFilterIncludesEveryWardInWindow() {
+        StageLatencySummaryDto aiCall = processingEventDao.getStageSummaries(FROM, TO, null).get(0);
+
+        assertThat(aiCall.getCount()).isEqualTo(11);
+        assertThat(aiCall.getMaxMs()).isEqualTo(5000);
+    }
+
+    @Test
+    void emptyWindowReturnsNoRows() {
+        assertThat(processingEventDao.getStageSummaries(TO, TO.plusDays(1), 1)).isEmpty();
+    }
+}
@@ -0,0 +1,280 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.AudioHeaderDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AudioHeaderParser 형식별 검증 - 테스트 안에서 만든 최소 헤더 픽스처 사용
+ */
+class AudioHeaderParserTest {
+
+    private final AudioHeaderParser parser = new AudioHeaderParser();
+
+    // ===== WAV =====
+
+    @Test
+    void parsesWav() {
+        AudioHeaderDto header = parse(wav(96000, 96000));
+
+        assertEquals("wav", header.getFormat());
+        assertEquals(1, header.getChannels());
+        assertEquals(16000, header.getSampleRate());
+        assertEquals(3000L, header.getDurationMs());
+    }
+
+    @Test
+    void wavWithZeroDataSizeUsesFileSize() {
+        assertEquals(3000L, parse(wav(0, 96000)).getDurationMs());
+    }
+
+    @Test
+    void wavWithUnknownDataSizeUsesFileSize() {
+        assertEquals(3000L, parse(wav(0xFFFFFFFF, 96000)).getDurationMs());
+    }
+
+    @Test
+    void rejectsTruncatedWav() {
+        byte[] truncated = Arrays.copyOf(wav(96000, 96000), 20);
+
+        assertThrows(IllegalArgumentException.class, () -> parse(truncated));
+    }
+
+    // ===== MP3 =====
+
+    @Test
+    void parsesCbrMp3() {
+        // MPEG-1 Layer III, 128 kbps, 44.1 kHz, padding - 418바이트 프레임 100개
+        AudioHeaderDto header = parse(mp3Frames(100));
+
+        assertEquals("mp3", header.getFormat());
+        assertEquals(2, header.getChannels());
+        assertEquals(44100, header.getSampleRate());
+        assertEquals(41800L * 8 / 128, header.getDurationMs());
+    }
+
+    @Test
+    void skipsId3TagBeforeFirstFrame() {
+        byte[] frames = mp3Frames(100);
+        byte[] id3 = new byte[10 + 300];
+        id3[0] = 'I';
+        id3[1] = 'D';
+        id3[2] = '3';
+        id3[3] = 3;
+        id3[8] = (byte) (300 >> 7);
+        id3[9] = (byte) (300 & 0x7F);
+
+        AudioHeaderDto header = parse(concat(id3, frames));
+
+        assertEquals(44100, header.getSampleRate());
+        assertEquals((long) frames.length * 8 / 128, header.getDurationMs());
+    }
+
+    @Test
+    void usesXingFrameCount() {
+        byte[] mp3 = mp3Frames(3);
+        // 스테레오 MPEG-1: 헤더(4) + side info(32) 뒤
+        putAscii(mp3, 36, "Xing");
+        ByteBuffer.wrap(mp3).putInt(40, 1).putInt(44, 1000);
+
+        assertEquals(1000L * 1152 * 1000 / 44100, parse(mp3).getDurationMs());
+    }
+
+    @Test
+    void usesVbriFrameCount() {
+        byte[] mp3 = mp3Frames(3);
+        putAscii(mp3, 36, "VBRI");
+        ByteBuffer.wrap(mp3).putInt(36 + 14, 500);
+
+        assertEquals(500L * 1152 * 1000 / 44100, parse(mp3).getDurationMs());
+    }
+
+    @Test
+    void strayMp3SyncInFileSmallerThanOneFrameIsNotAFrame() {
+        byte[] data = new byte[200];
+        System.arraycopy(mp3Frames(1), 0, data, 0, 4);
+
+        assertEquals(-1, AudioHeaderParser.findMp3Frame(data, 0));
+        assertThrows(IllegalArgumentException.class, () -> parse(data));
+    }
+
+    // ===== M4A =====
+
+    @Test
+    void parsesM4aWithMoovBeforeMdat() {
+        AudioHeaderDto header = parse(concat(box("ftyp", ascii("M4A isom")), moov(), box("mdat", new byte[50000])));
+
+        assertM4a(header);
+    }
+
+    @Test
+    void parsesM4aWithMoovAfterMdat() {
+        AudioHeaderDto header = parse(concat(box("ftyp", ascii("M4A isom")), box("mdat", new byte[200000]), moov()));
+
+        assertM4a(header);
+    }
+
+    @Test
+    void rejectsTruncatedM4a() {
+        byte[] file = concat(box("ftyp", ascii("M4A isom")), box("mdat", new byte[200000]), moov());
+        byte[] truncated = Arrays.copyOf(file, 1000);
+
+        assertThrows(IllegalArgumentException.class, () -> parse(truncated));
+    }
+
+    // ===== OGG =====
+
+    @Test
+    void parsesOggVorbis() {
+        ByteBuffer ident = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+        ident.put((byte) 0x01).put(ascii("vorbis")).putInt(0).put((byte) 2).putInt(44100);
+        byte[] file = concat(oggPage(2, 0, ident.array()), new byte[100000], oggPage(4, 44100L * 4, new byte[10]));
+
+        AudioHeaderDto header = parse(file);
+
+        assertEquals("ogg", header.getFormat());
+        assertEquals(2, header.getChannels());
+        assertEquals(44100, header.getSampleRate());
+        assertEquals(4000L, header.getDurationMs());
+    }
+
+    @Test
+    void parsesOggOpusWithPreSkip() {
+        ByteBuffer opusHead = ByteBuffer.allocate(19).order(ByteOrder.LITTLE_ENDIAN);
+        opusHead.put(ascii("OpusHead")).put((byte) 1).put((byte) 1).putShort((short) 312).putInt(16000);
+        byte[] file = concat(oggPage(2, 0, opusHead.array()), new byte[100000], oggPage(4, 48000L * 5 + 312, new byte[10]));
+
+        AudioHeaderDto header = parse(file);
+
+        assertEquals("ogg", header.getFormat());
+        assertEquals(1, header.getChannels());
+        assertEquals(16000, header.getSampleRate());
+        assertEquals(5000L, header.getDurationMs());
+    }
+
+    @Test
+    void rejectsTruncatedOgg() {
+        assertThrows(IllegalArgumentException.class, () -> parse(Arrays.copyOf(ascii("OggS"), 20)));
+    }
+
+    // ===== 오디오가 아닌 입력 =====
+
+    @Test
+    void rejectsNonAudio() {
+        assertThrows(IllegalArgumentException.class, () -> parse(ascii("hello world, this is not audio")));
+        assertThrows(IllegalArgumentException.class, () -> parse(ascii("%PDF-1.7\n%binary")));
+    }
+
+    @Test
+    void rejectsEmptyFile() {
+        assertThrows(IllegalArgumentException.class, () -> parse(new byte[0]));
+    }
+
+    // ===== fixtures =====
+
+    private AudioHeaderDto parse(byte[] data) {
+        return parser.parse(new AudioHeaderParser.ByteSource() {
+            @Override
+            public long size() {
+                return data.length;
+            }
+
+            @Override
+            public byte[] read(long offset, int length) {
+                if (offset >= data.length) {
+                    return new byte[0];
+                }
+                return Arrays.copyOfRange(data, (int) offset, (int) Math.min(data.length, offset + length));
+            }
+        });
+    }
+
+    /**
+     * 16 kHz / mono / 16 bit PCM, data 청크 크기 필드는 declaredDataSize
+     */
+    private static byte[] wav(int declaredDataSize, int dataBytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(44 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(ascii("RIFF")).putInt(36 + dataBytes).put(ascii("WAVE"))
+                .put(ascii("fmt ")).putInt(16)
+                .putShort((short) 1).putShort((short) 1).putInt(16000).putInt(32000)
+                .putShort((short) 2).putShort((short) 16)
+                .put(ascii("data")).putInt(declaredDataSize);
+        return buffer.array();
+    }
+
+    private static byte[] mp3Frames(int count) {
+        byte[] data = new byte[418 * count];
+        for (int i = 0; i < count; i++) {
+            int offset = i * 418;
+            data[offset] = (byte) 0xFF;
+            data[offset + 1] = (byte) 0xFB;
+            data[offset + 2] = (byte) 0x92;
+            data[offset + 3] = 0x00;
+        }
+        return data;
+    }
+
+    private static void assertM4a(AudioHeaderDto header) {
+        assertEquals("m4a", header.getFormat());
+        assertEquals(2, header.getChannels());
+        assertEquals(44100, header.getSampleRate());
+        assertEquals(65432L, header.getDurationMs());
+    }
+
+    /**
+     * mvhd(timescale 1000, duration 65432) + 오디오 trak(mp4a, 2ch, 44.1 kHz)
+     */
+    private static byte[] moov() {
+        byte[] mvhd = ByteBuffer.allocate(100).putInt(12, 1000).putInt(16, 65432).array();
+        byte[] hdlr = new byte[24];
+        putAscii(hdlr, 8, "soun");
+        ByteBuffer entry = ByteBuffer.allocate(36);
+        entry.putInt(36).put(ascii("mp4a"));
+        entry.putShort(24, (short) 2).putInt(32, 44100 << 16);
+        byte[] stsd = ByteBuffer.allocate(8 + 36).putInt(4, 1).put(8, entry.array()).array();
+        return box("moov", box("mvhd", mvhd),
+                box("trak", box("mdia", box("hdlr", hdlr), box("minf", box("stbl", box("stsd", stsd))))));
+    }
+
+    private static byte[] box(String type, byte[]... children) {
+        byte[] body = concat(children);
+        return ByteBuffer.allocate(8 + body.length).putInt(8 + body.length).put(ascii(type)).put(body).array();
+    }
+
+    /**
+     * 패킷 하나를 담은 Ogg 페이지 (serial 77)
+     */
+    private static byte[] oggPage(int headerType, long granule, byte[] packet) {
+        ByteBuffer page = ByteBuffer.allocate(27 + 1 + packet.length).order(ByteOrder.LITTLE_ENDIAN);
+        page.put(ascii("OggS")).put((byte) 0).put((byte) headerType).putLong(granule)
+                .putInt(77).putInt(0).putInt(0)
+                .put((byte) 1).put((byte) packet.length)
+                .put(packet);
+        return page.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static void putAscii(byte[] data, int offset, String value) {
+        byte[] bytes = ascii(value);
+        System.arraycopy(bytes, 0, data, offset, bytes.length);
+    }
+}
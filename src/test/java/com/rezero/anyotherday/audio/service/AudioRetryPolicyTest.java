@@ -0,0 +1,130 @@
+package com.rezero.anyotherday.audio.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AudioRetryPolicy 검증 - 상한이 있는 equal jitter 지연 범위와 재시도 대상 예외 분류
+ */
+class AudioRetryPolicyTest {
+
+    private static final long BASE_DELAY_MS = 5000;
+    private static final long MAX_DELAY_MS = 300000;
+    private static final int SAMPLES = 1000;
+
+    private AudioRetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new AudioRetryPolicy();
+        ReflectionTestUtils.setField(policy, "maxAttempts", 5);
+        ReflectionTestUtils.setField(policy, "baseDelayMs", BASE_DELAY_MS);
+        ReflectionTestUtils.setField(policy, "maxDelayMs", MAX_DELAY_MS);
+    }
+
+    // ===== 지연 =====
+
+    @Test
+    void delayStaysWithinUpperHalfOfExponentialWindow() {
+        for (int attempt = 1; attempt <= 6; attempt++) {
+            long capped = Math.min(MAX_DELAY_MS, BASE_DELAY_MS << (attempt - 1));
+            assertDelaysWithin(attempt, capped / 2, capped);
+        }
+    }
+
+    @Test
+    void delayIsCappedAtMaxDelay() {
+        // 5초 * 2^6 = 320초 > 상한 300초부터는 같은 범위
+        for (int attempt : new int[]{7, 10, 31, 64, Integer.MAX_VALUE}) {
+            assertDelaysWithin(attempt, MAX_DELAY_MS / 2, MAX_DELAY_MS);
+        }
+    }
+
+    @Test
+    void firstAttemptUsesBaseDelayEvenForZeroOrNegativeCount() {
+        assertDelaysWithin(0, BASE_DELAY_MS / 2, BASE_DELAY_MS);
+        assertDelaysWithin(-3, BASE_DELAY_MS / 2, BASE_DELAY_MS);
+    }
+
+    @Test
+    void delaysAreJittered() {
+        long first = policy.nextDelay(3).toMillis();
+        boolean varied = false;
+        for (int i = 0; i < SAMPLES && !varied; i++) {
+            varied = policy.nextDelay(3).toMillis() != first;
+        }
+        assertTrue(varied, "expected jitter across " + SAMPLES + " samples");
+    }
+
+    @Test
+    void zeroBaseDelayRetriesImmediately() {
+        ReflectionTestUtils.setField(policy, "baseDelayMs", 0L);
+
+        assertEquals(0L, policy.nextDelay(3).toMillis());
+    }
+
+    @Test
+    void canRetryUntilMaxAttempts() {
+        assertTrue(policy.canRetry(1));
+        assertTrue(policy.canRetry(4));
+        assertFalse(policy.canRetry(5));
+        assertFalse(policy.canRetry(6));
+    }
+
+    // ===== 재시도 대상 =====
+
+    @Test
+    void connectionFailuresAndTimeoutsAreRetryable() {
+        assertTrue(policy.isRetryable(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"))));
+        // AIServiceImpl은 원인을 감싸서 던짐
+        assertTrue(policy.isRetryable(new RuntimeException("Failed to connect to AI server",
+                new ResourceAccessException("Connection refused"))));
+    }
+
+    @Test
+    void serverErrorsAreRetryable() {
+        assertTrue(policy.isRetryable(new RuntimeException("Error during AI diagnosis",
+                new HttpServerErrorException(HttpStatus.BAD_GATEWAY))));
+        assertTrue(policy.isRetryable(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+    }
+
+    @Test
+    void transientDatabaseErrorsAreRetryable() {
+        assertTrue(policy.isRetryable(new RuntimeException(new QueryTimeoutException("Lock wait timeout"))));
+    }
+
+    @Test
+    void exhaustedProcessingBudgetIsRetryable() {
+        assertTrue(policy.isRetryable(new DeadlineExceededException("No time left")));
+    }
+
+    @Test
+    void clientAndParseErrorsAreNotRetryable() {
+        assertFalse(policy.isRetryable(new RuntimeException("Error during AI diagnosis",
+                new HttpClientErrorException(HttpStatus.BAD_REQUEST))));
+        assertFalse(policy.isRetryable(new RuntimeException("Failed to parse AI response - JSON structure mismatch")));
+        assertFalse(policy.isRetryable(new IllegalArgumentException("Ward not found")));
+        assertFalse(policy.isRetryable(new RuntimeException(new IOException("S3 object missing"))));
+    }
+
+    private void assertDelaysWithin(int failedAttempts, long minMs, long maxMs) {
+        for (int i = 0; i < SAMPLES; i++) {
+            long delay = policy.nextDelay(failedAttempts).toMillis();
+            assertTrue(delay >= minMs && delay <= maxMs,
+                    "attempt " + failedAttempts + ": " + delay + "ms not in [" + minMs + ", " + maxMs + "]");
+        }
+    }
+}
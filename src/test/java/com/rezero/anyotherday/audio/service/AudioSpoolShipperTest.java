@@ -0,0 +1,269 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import com.rezero.anyotherday.audio.dto.AudioRecordDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AudioSpoolShipper 검증 - 배송 성공 시 stored 전환과 파일 삭제, 실패 시 백오프 후 재시도, 파일 유실 시 failed 확정
+ */
+class AudioSpoolShipperTest {
+
+    private static final String NODE_ID = "node-1";
+    private static final int SHIP_CONCURRENCY = 2;
+
+    private Path spoolDir;
+    private SpoolTable table;
+    private FakeStorage storage;
+    private AudioSpoolShipper shipper;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        spoolDir = Files.createTempDirectory("audio-spool-test");
+        table = new SpoolTable();
+        storage = new FakeStorage();
+
+        AudioRetryPolicy retryPolicy = new AudioRetryPolicy();
+        ReflectionTestUtils.setField(retryPolicy, "maxAttempts", 5);
+        ReflectionTestUtils.setField(retryPolicy, "baseDelayMs", 2000L);
+        ReflectionTestUtils.setField(retryPolicy, "maxDelayMs", 60000L);
+
+        shipper = new AudioSpoolShipper(table.dao(), storage, retryPolicy);
+        ReflectionTestUtils.setField(shipper, "enabled", true);
+        ReflectionTestUtils.setField(shipper, "shipConcurrency", SHIP_CONCURRENCY);
+        // 주기 실행은 막고 wakeUp으로만 조회
+        ReflectionTestUtils.setField(shipper, "pollIntervalMs", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(shipper, "nodeId", NODE_ID);
+        shipper.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        shipper.stop();
+        try (Stream<Path> paths = Files.walk(spoolDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // ===== 배송 =====
+
+    @Test
+    void shipsSpooledFileAndDeletesIt() throws Exception {
+        Path file = spool(1, "wav");
+
+        shipper.wakeUp();
+        awaitCondition(() -> table.shipped.containsKey(1));
+
+        assertEquals("https://s3/audio/7/hash-1.wav", table.shipped.get(1));
+        assertEquals(List.of("audio/7/hash-1.wav"), storage.uploadedKeys);
+        awaitCondition(() -> !Files.exists(file));
+        awaitCondition(() -> shipper.getInFlight() == 0);
+    }
+
+    @Test
+    void queriesOnlyThisNodesRecordsUpToConcurrency() throws Exception {
+        shipper.wakeUp();
+        awaitCondition(() -> !table.queries.isEmpty());
+
+        assertEquals(NODE_ID + ":" + SHIP_CONCURRENCY, table.queries.get(0));
+    }
+
+    @Test
+    void failedUploadIsDeferredWithBackoffAndKeepsFile() throws Exception {
+        Path file = spool(1, "wav");
+        storage.failuresLeft = 2;
+
+        shipper.wakeUp();
+        awaitCondition(() -> table.deferrals.size() == 1);
+        awaitCondition(() -> shipper.getInFlight() == 0);
+        shipper.wakeUp();
+        awaitCondition(() -> table.deferrals.size() == 2);
+
+        // 2초 기준 equal jitter: 1번째 실패 1~2초, 2번째 실패 2~4초
+        long first = table.deferrals.get(0);
+        long second = table.deferrals.get(1);
+        assertTrue(first >= 1 && first <= 2, "first delay " + first);
+        assertTrue(second >= 2 && second <= 4, "second delay " + second);
+        assertTrue(Files.exists(file));
+        assertFalse(table.shipped.containsKey(1));
+
+        awaitCondition(() -> shipper.getInFlight() == 0);
+        shipper.wakeUp();
+        awaitCondition(() -> table.shipped.containsKey(1));
+        awaitCondition(() -> !Files.exists(file));
+    }
+
+    // ===== 파일 유실 =====
+
+    @Test
+    void missingSpoolFileMarksRecordLost() throws Exception {
+        table.add(record(1, spoolDir.resolve("gone.wav").toString()));
+
+        shipper.wakeUp();
+        awaitCondition(() -> table.lost.containsKey(1));
+
+        assertTrue(table.lost.get(1).contains("gone.wav"), table.lost.get(1));
+        assertTrue(storage.uploadedKeys.isEmpty());
+        assertEquals(0, shipper.getInFlight());
+    }
+
+    @Test
+    void recordWithoutSpoolPathIsLost() throws Exception {
+        table.add(record(1, null));
+
+        shipper.wakeUp();
+        awaitCondition(() -> table.lost.containsKey(1));
+
+        assertTrue(storage.uploadedKeys.isEmpty());
+    }
+
+    @Test
+    void lostRecordDoesNotBlockOthers() throws Exception {
+        table.add(record(1, spoolDir.resolve("gone.wav").toString()));
+        spool(2, "mp3");
+
+        shipper.wakeUp();
+        awaitCondition(() -> table.lost.containsKey(1) && table.shipped.containsKey(2));
+
+        assertEquals(List.of("audio/7/hash-2.mp3"), storage.uploadedKeys);
+    }
+
+    private Path spool(int recordId, String format) throws IOException {
+        Path file = spoolDir.resolve(recordId + "." + format);
+        Files.write(file, ("audio-" + recordId).getBytes(StandardCharsets.UTF_8));
+        AudioRecordDto record = record(recordId, file.toString());
+        record.setFileFormat(format);
+        table.add(record);
+        return file;
+    }
+
+    private static AudioRecordDto record(int recordId, String spoolPath) {
+        AudioRecordDto record = new AudioRecordDto();
+        record.setRecordId(recordId);
+        record.setWardId(7);
+        record.setContentHash("hash-" + recordId);
+        record.setFileFormat("wav");
+        record.setStorageStatus("spooled");
+        record.setSpoolNode(NODE_ID);
+        record.setSpoolPath(spoolPath);
+        return record;
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * audio_record의 스풀 관련 컬럼만 흉내 내는 AudioRecordDao
+     */
+    private static final class SpoolTable {
+        private final List<AudioRecordDto> spooled = new CopyOnWriteArrayList<>();
+        private final List<String> queries = new CopyOnWriteArrayList<>();
+        private final Map<Integer, String> shipped = new ConcurrentHashMap<>();
+        private final Map<Integer, String> lost = new ConcurrentHashMap<>();
+        private final List<Long> deferrals = new CopyOnWriteArrayList<>();
+
+        private void add(AudioRecordDto record) {
+            spooled.add(record);
+        }
+
+        private AudioRecordDao dao() {
+            return (AudioRecordDao) Proxy.newProxyInstance(AudioRecordDao.class.getClassLoader(),
+                    new Class<?>[]{AudioRecordDao.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "selectSpooledRecords" -> {
+                            queries.add(args[0] + ":" + args[1]);
+                            yield new ArrayList<>(spooled);
+                        }
+                        case "markShipped" -> {
+                            spooled.removeIf(r -> r.getRecordId().equals(args[0]));
+                            shipped.put((Integer) args[0], (String) args[1]);
+                            yield 1;
+                        }
+                        case "deferShipping" -> {
+                            deferrals.add((Long) args[1]);
+                            yield 1;
+                        }
+                        case "markSpoolLost" -> {
+                            spooled.removeIf(r -> r.getRecordId().equals(args[0]));
+                            lost.put((Integer) args[0], (String) args[1]);
+                            yield 1;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+
+    /**
+     * 업로드한 키만 기록하는 S3 - failuresLeft만큼 먼저 실패
+     */
+    private static final class FakeStorage implements S3AudioStorageService {
+        private final List<String> uploadedKeys = new CopyOnWriteArrayList<>();
+        private volatile int failuresLeft;
+
+        @Override
+        public String uploadAudio(MultipartFile file, String key) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new RuntimeException("S3 unavailable");
+            }
+            uploadedKeys.add(key);
+            return "https://s3/" + key;
+        }
+
+        @Override
+        public URL generateUploadUrl(String key, String contentType, Date expiration) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ObjectMetadata getObjectMetadata(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] readRange(String key, long offset, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getUrl(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteObject(String key) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dto.AudioStatusEventDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AudioStatusSseRegistry 검증 - 현재 상태 즉시 전송, 같은 상태 중복 제거, 느리거나 밀린 연결만 끊고 나머지는 계속 전송
+ */
+class AudioStatusSseRegistryTest {
+
+    private static final long SEND_TIMEOUT_MS = 200;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch blockNextEmitter;
+    private volatile IOException failNextEmitter;
+    private AudioStatusSseRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AudioStatusSseRegistry(null) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter(blockNextEmitter, failNextEmitter);
+                blockNextEmitter = null;
+                failNextEmitter = null;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(registry, "timeoutMs", 300000L);
+        // 하트비트와 DB 동기화는 이 테스트에서 다루지 않음
+        ReflectionTestUtils.setField(registry, "heartbeatMs", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(registry, "reconcileMs", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(registry, "maxConnections", 3);
+        ReflectionTestUtils.setField(registry, "sendThreads", 2);
+        ReflectionTestUtils.setField(registry, "sendTimeoutMs", SEND_TIMEOUT_MS);
+        registry.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(RecordingEmitter::release);
+        registry.stop();
+    }
+
+    // ===== 전송 =====
+
+    @Test
+    void currentStatusIsSentOnSubscribe() throws InterruptedException {
+        RecordingEmitter emitter = subscribe(status(1, "processing"));
+
+        awaitCondition(() -> emitter.statuses().equals(List.of("processing")));
+        assertFalse(emitter.completed);
+        assertEquals(1, registry.getConnectionCount());
+    }
+
+    @Test
+    void terminalStatusCompletesStream() throws InterruptedException {
+        RecordingEmitter emitter = subscribe(status(1, "pending"));
+
+        registry.onStatusChanged(status(1, "completed"));
+
+        awaitCondition(() -> emitter.completed);
+        assertEquals(List.of("pending", "completed"), emitter.statuses());
+    }
+
+    @Test
+    void unchangedStatusIsNotResent() throws InterruptedException {
+        RecordingEmitter emitter = subscribe(status(1, "processing"));
+
+        registry.onStatusChanged(status(1, "processing"));
+        registry.onStatusChanged(status(1, "processing"));
+        registry.onStatusChanged(status(1, "failed"));
+
+        awaitCondition(() -> emitter.completed);
+        assertEquals(List.of("processing", "failed"), emitter.statuses());
+    }
+
+    @Test
+    void eventsForOtherRecordsAreIgnored() throws InterruptedException {
+        RecordingEmitter emitter = subscribe(status(1, "pending"));
+
+        registry.onStatusChanged(status(2, "completed"));
+        registry.onStatusChanged(status(1, "processing"));
+
+        awaitCondition(() -> emitter.statuses().size() == 2);
+        assertEquals(List.of("pending", "processing"), emitter.statuses());
+    }
+
+    @Test
+    void subscriptionsBeyondMaxConnectionsAreRejected() {
+        subscribe(status(1, "pending"));
+        subscribe(status(2, "pending"));
+        subscribe(status(3, "pending"));
+
+        assertThrows(IllegalStateException.class, () -> registry.subscribe(status(4, "pending")));
+        assertEquals(3, registry.getConnectionCount());
+    }
+
+    // ===== 느린 연결 =====
+
+    @Test
+    void stalledSendIsDroppedWithoutBlockingOtherClients() throws InterruptedException {
+        RecordingEmitter slow = subscribeBlocked(status(1, "pending"));
+        RecordingEmitter fast = subscribe(status(1, "pending"));
+
+        registry.onStatusChanged(status(1, "processing"));
+        awaitCondition(() -> fast.statuses().equals(List.of("pending", "processing")));
+
+        // send-timeout-ms를 넘기면 구독 목록에서 바로 빠짐
+        awaitCondition(() -> registry.getConnectionCount() == 1);
+        assertNull(slow.error);
+
+        // 막혀 있던 전송이 끝난 뒤에 스트림을 닫음
+        slow.release();
+        awaitCondition(() -> slow.error != null);
+        assertTrue(slow.error instanceof TimeoutException, String.valueOf(slow.error));
+
+        registry.onStatusChanged(status(1, "completed"));
+        awaitCondition(() -> fast.completed);
+        assertEquals(List.of("pending"), slow.statuses());
+    }
+
+    @Test
+    void clientFallingBehindIsDropped() throws InterruptedException {
+        ReflectionTestUtils.setField(registry, "sendTimeoutMs", TimeUnit.MINUTES.toMillis(1));
+        RecordingEmitter slow = subscribeBlocked(status(1, "pending"));
+
+        for (int i = 0; i < 40; i++) {
+            registry.onStatusChanged(status(1, "step-" + i));
+        }
+
+        awaitCondition(() -> registry.getConnectionCount() == 0);
+        slow.release();
+        awaitCondition(() -> slow.error != null);
+        assertTrue(slow.error instanceof IllegalStateException, String.valueOf(slow.error));
+        // 끊긴 뒤에는 밀려 있던 이벤트를 보내지 않음
+        assertEquals(List.of("pending"), slow.statuses());
+    }
+
+    @Test
+    void failedSendRemovesClient() throws InterruptedException {
+        failNextEmitter = new IOException("Broken pipe");
+        RecordingEmitter broken = subscribe(status(1, "pending"));
+
+        awaitCondition(() -> broken.error != null);
+        assertEquals(0, registry.getConnectionCount());
+        assertEquals(0, registry.getSubscribedRecordCount());
+    }
+
+    private RecordingEmitter subscribe(AudioStatusEventDto current) {
+        registry.subscribe(current);
+        return emitters.get(emitters.size() - 1);
+    }
+
+    private RecordingEmitter subscribeBlocked(AudioStatusEventDto current) throws InterruptedException {
+        blockNextEmitter = new CountDownLatch(1);
+        RecordingEmitter emitter = subscribe(current);
+        awaitCondition(() -> emitter.sending);
+        return emitter;
+    }
+
+    private static AudioStatusEventDto status(int recordId, String status) {
+        return AudioStatusEventDto.builder()
+                .recordId(recordId)
+                .wardId(7)
+                .status(status)
+                .build();
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 보낸 상태를 기록하는 SseEmitter - block이 있으면 첫 전송에서 풀릴 때까지 막힘 (읽지 않는 클라이언트),
+     * failure가 있으면 전송마다 실패 (끊긴 클라이언트)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<AudioStatusEventDto> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch block;
+        private final IOException failure;
+        private volatile boolean sending;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private RecordingEmitter(CountDownLatch block, IOException failure) {
+            super(300000L);
+            this.block = block;
+            this.failure = failure;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            try {
+                if (block != null) {
+                    block.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                sending = false;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof AudioStatusEventDto event) {
+                    sent.add(event);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+        }
+
+        private void release() {
+            if (block != null) {
+                block.countDown();
+            }
+        }
+
+        private List<String> statuses() {
+            return sent.stream().map(AudioStatusEventDto::getStatus).toList();
+        }
+    }
+}
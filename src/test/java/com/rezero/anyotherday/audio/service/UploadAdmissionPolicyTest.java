@@ -0,0 +1,170 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.ai.service.AdaptiveConcurrencyLimiter;
+import com.rezero.anyotherday.audio.dao.AudioRecordDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * UploadAdmissionPolicy 검증 - 대기 작업/AI 대기 한도 초과 시 거절과 Retry-After 추정, DB 카운트 캐시
+ */
+class UploadAdmissionPolicyTest {
+
+    private static final int MAX_BACKLOG = 10;
+    private static final int MAX_AI_WAITING = 5;
+
+    private long pendingRecords;
+    private AtomicInteger countCalls;
+    private LongSupplier pendingCount;
+
+    private AudioJobDispatcher dispatcher;
+    private WardLaneExecutor wardLaneExecutor;
+    private AdaptiveConcurrencyLimiter limiter;
+    private UploadAdmissionPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        countCalls = new AtomicInteger();
+        pendingCount = () -> pendingRecords;
+
+        dispatcher = new AudioJobDispatcher(null, null, null, null, null);
+        ReflectionTestUtils.setField(dispatcher, "maxInFlight", 1);
+        // 레인을 시작만 하고 실행하지 않으므로 넣은 작업이 모두 대기로 남음
+        wardLaneExecutor = new WardLaneExecutor(task -> { });
+        limiter = new AdaptiveConcurrencyLimiter();
+
+        policy = new UploadAdmissionPolicy(countingDao(), dispatcher, wardLaneExecutor, limiter);
+        ReflectionTestUtils.setField(policy, "enabled", true);
+        ReflectionTestUtils.setField(policy, "maxBacklog", MAX_BACKLOG);
+        ReflectionTestUtils.setField(policy, "maxAiWaiting", MAX_AI_WAITING);
+        ReflectionTestUtils.setField(policy, "backlogRefreshMs", 0L);
+        ReflectionTestUtils.setField(policy, "maxRetryAfterSeconds", 300L);
+    }
+
+    // ===== 수용 =====
+
+    @Test
+    void admitsBelowLimits() {
+        pendingRecords = MAX_BACKLOG - 1;
+        ReflectionTestUtils.setField(limiter, "waiting", MAX_AI_WAITING - 1);
+
+        assertNull(policy.checkAdmission());
+    }
+
+    @Test
+    void disabledPolicyAdmitsEverything() {
+        ReflectionTestUtils.setField(policy, "enabled", false);
+        pendingRecords = 1000;
+
+        assertNull(policy.checkAdmission());
+        assertEquals(0, countCalls.get());
+    }
+
+    // ===== Retry-After =====
+
+    @Test
+    void backlogAtLimitRejectsForAtLeastOneSecond() {
+        pendingRecords = MAX_BACKLOG;
+
+        // 기준 지연이 아직 없으면 작업당 1초로 추정
+        assertEquals(Duration.ofSeconds(1), policy.checkAdmission());
+    }
+
+    @Test
+    void retryAfterScalesWithExcessLatencyAndParallelism() {
+        pendingRecords = MAX_BACKLOG + 19;
+        ReflectionTestUtils.setField(limiter, "baselineLatencyMs", 2000.0);
+        ReflectionTestUtils.setField(dispatcher, "maxInFlight", 4);
+
+        // 초과 20건 * 2초 / 동시 4건 = 10초
+        assertEquals(Duration.ofSeconds(10), policy.checkAdmission());
+    }
+
+    @Test
+    void retryAfterRoundsUp() {
+        pendingRecords = MAX_BACKLOG + 2;
+        ReflectionTestUtils.setField(dispatcher, "maxInFlight", 2);
+
+        // 초과 3건 * 1초 / 동시 2건 = 1.5초 -> 2초
+        assertEquals(Duration.ofSeconds(2), policy.checkAdmission());
+    }
+
+    @Test
+    void retryAfterIsCapped() {
+        pendingRecords = 100_000;
+        ReflectionTestUtils.setField(limiter, "baselineLatencyMs", 60_000.0);
+        ReflectionTestUtils.setField(policy, "maxRetryAfterSeconds", 30L);
+
+        assertEquals(Duration.ofSeconds(30), policy.checkAdmission());
+    }
+
+    @Test
+    void queuedLaneTasksCountTowardBacklog() {
+        pendingRecords = MAX_BACKLOG - 2;
+        wardLaneExecutor.execute(1, () -> { });
+        wardLaneExecutor.execute(2, () -> { });
+        assertEquals(2, wardLaneExecutor.getQueuedTaskCount());
+
+        assertEquals(Duration.ofSeconds(1), policy.checkAdmission());
+    }
+
+    @Test
+    void aiWaitingAtLimitRejects() {
+        ReflectionTestUtils.setField(limiter, "waiting", MAX_AI_WAITING + 2);
+        ReflectionTestUtils.setField(limiter, "baselineLatencyMs", 3000.0);
+        ReflectionTestUtils.setField(dispatcher, "maxInFlight", 3);
+
+        // 초과 3건 * 3초 / 동시 3건 = 3초
+        assertEquals(Duration.ofSeconds(3), policy.checkAdmission());
+    }
+
+    // ===== DB 카운트 =====
+
+    @Test
+    void backlogCountIsCachedWithinRefreshInterval() {
+        ReflectionTestUtils.setField(policy, "backlogRefreshMs", 60_000L);
+        pendingRecords = MAX_BACKLOG;
+        assertEquals(Duration.ofSeconds(1), policy.checkAdmission());
+
+        // 캐시가 살아 있는 동안은 줄어든 값을 아직 보지 못함
+        pendingRecords = 0;
+        assertEquals(Duration.ofSeconds(1), policy.checkAdmission());
+        assertEquals(1, countCalls.get());
+    }
+
+    @Test
+    void countFailureKeepsLastValue() {
+        pendingRecords = MAX_BACKLOG;
+        assertEquals(Duration.ofSeconds(1), policy.checkAdmission());
+
+        pendingCount = () -> {
+            throw new QueryTimeoutException("count timed out");
+        };
+
+        assertEquals(Duration.ofSeconds(1), policy.checkAdmission());
+    }
+
+    /**
+     * countDuePendingRecords만 응답하는 AudioRecordDao
+     */
+    private AudioRecordDao countingDao() {
+        return (AudioRecordDao) Proxy.newProxyInstance(AudioRecordDao.class.getClassLoader(),
+                new Class<?>[]{AudioRecordDao.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("countDuePendingRecords")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    countCalls.incrementAndGet();
+                    return pendingCount.getAsLong();
+                });
+    }
+}
@@ -0,0 +1,319 @@
+package com.rezero.anyotherday.audio.service;
+
+import com.rezero.anyotherday.audio.dao.UploadSessionDao;
+import com.rezero.anyotherday.audio.dto.UploadSessionDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UploadSessionServiceImpl.appendChunk 검증 - offset 일치 확인, 끊긴 청크의 부분 반영과 이어받기, 크기 초과/동시 청크 거부
+ */
+class UploadSessionServiceImplTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private Path sessionDir;
+    private InMemoryUploadSessionDao dao;
+    private UploadSessionServiceImpl service;
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sessionDir = Files.createTempDirectory("upload-session-test");
+        dao = new InMemoryUploadSessionDao();
+        service = new UploadSessionServiceImpl(dao, null);
+        ReflectionTestUtils.setField(service, "sessionDir", sessionDir.toString());
+        ReflectionTestUtils.setField(service, "ttlHours", 24L);
+        ReflectionTestUtils.setField(service, "chunkSizeBytes", 4);
+        ReflectionTestUtils.setField(service, "maxUploadBytes", 1024L);
+
+        sessionId = UUID.randomUUID().toString();
+        dao.put(UploadSessionDto.builder()
+                .sessionId(sessionId)
+                .wardId(1)
+                .fileName("a.wav")
+                .totalBytes(CONTENT.length)
+                .status("open")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(sessionDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // ===== offset =====
+
+    @Test
+    void chunksAtMatchingOffsetsAreAppended() throws IOException {
+        assertEquals(4, service.appendChunk(sessionId, 0, chunk(0, 4)).getReceivedBytes());
+        assertEquals(10, service.appendChunk(sessionId, 4, chunk(4, 10)).getReceivedBytes());
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(partFile()));
+    }
+
+    @Test
+    void offsetAheadOfReceivedBytesIsRejected() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.appendChunk(sessionId, 4, chunk(4, 10)));
+
+        assertTrue(e.getMessage().contains("expected 0, got 4"), e.getMessage());
+        assertEquals(0, dao.get(sessionId).getReceivedBytes());
+        assertEquals(0, dao.advanceCalls.get());
+    }
+
+    @Test
+    void resentChunkAtOldOffsetIsRejected() throws IOException {
+        service.appendChunk(sessionId, 0, chunk(0, 4));
+
+        // 응답을 못 받은 클라이언트가 같은 청크를 다시 보냄
+        assertThrows(IllegalStateException.class, () -> service.appendChunk(sessionId, 0, chunk(0, 4)));
+
+        assertEquals(4, dao.get(sessionId).getReceivedBytes());
+        service.appendChunk(sessionId, 4, chunk(4, 10));
+        assertArrayEquals(CONTENT, Files.readAllBytes(partFile()));
+    }
+
+    // ===== 끊긴 청크 =====
+
+    @Test
+    void interruptedChunkKeepsBytesReceivedSoFar() throws IOException {
+        UploadSessionDto session = service.appendChunk(sessionId, 0, new DisconnectingStream(slice(0, 6)));
+
+        assertEquals(6, session.getReceivedBytes());
+        assertEquals(1, dao.advanceCalls.get());
+
+        // 세션 조회로 얻은 offset부터 이어서 보냄
+        long offset = service.getSession(sessionId).getReceivedBytes();
+        assertEquals(10, service.appendChunk(sessionId, offset, chunk((int) offset, 10)).getReceivedBytes());
+        assertArrayEquals(CONTENT, Files.readAllBytes(partFile()));
+    }
+
+    @Test
+    void chunkInterruptedBeforeAnyByteLeavesOffsetUnchanged() {
+        UploadSessionDto session = service.appendChunk(sessionId, 0, new DisconnectingStream(new byte[0]));
+
+        assertEquals(0, session.getReceivedBytes());
+        assertEquals(0, dao.advanceCalls.get());
+    }
+
+    @Test
+    void offsetChangedWhileReceivingIsRejected() {
+        // 청크를 받는 사이 다른 노드가 같은 세션의 offset을 옮김
+        InputStream racing = new ByteArrayInputStream(slice(0, 4)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                dao.get(sessionId).setReceivedBytes(4);
+                return super.read(b, off, len);
+            }
+        };
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.appendChunk(sessionId, 0, racing));
+
+        assertTrue(e.getMessage().contains("changed while receiving"), e.getMessage());
+        assertEquals(4, dao.get(sessionId).getReceivedBytes());
+    }
+
+    // ===== 거부 =====
+
+    @Test
+    void chunkBeyondTotalBytesIsRejected() {
+        byte[] tooLong = new byte[CONTENT.length + 1];
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.appendChunk(sessionId, 0, new ByteArrayInputStream(tooLong)));
+
+        assertEquals(0, dao.get(sessionId).getReceivedBytes());
+        assertEquals(0, dao.advanceCalls.get());
+    }
+
+    @Test
+    void missingOrClosedSessionIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.appendChunk(UUID.randomUUID().toString(), 0, chunk(0, 4)));
+
+        dao.get(sessionId).setStatus("expired");
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.appendChunk(sessionId, 0, chunk(0, 4)));
+        assertEquals("Upload session is expired", e.getMessage());
+    }
+
+    @Test
+    void concurrentChunkForSameSessionIsRejected() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slow = new ByteArrayInputStream(slice(0, 4)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                reading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(b, off, len);
+            }
+        };
+
+        ExecutorService uploader = Executors.newSingleThreadExecutor();
+        try {
+            Future<UploadSessionDto> first = uploader.submit(() -> service.appendChunk(sessionId, 0, slow));
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> service.appendChunk(sessionId, 0, chunk(0, 4)));
+            assertTrue(e.getMessage().contains("in progress"), e.getMessage());
+
+            release.countDown();
+            assertEquals(4, first.get(5, TimeUnit.SECONDS).getReceivedBytes());
+        } finally {
+            uploader.shutdownNow();
+        }
+    }
+
+    private Path partFile() {
+        return sessionDir.resolve(sessionId + ".part");
+    }
+
+    private static InputStream chunk(int from, int to) {
+        return new ByteArrayInputStream(slice(from, to));
+    }
+
+    private static byte[] slice(int from, int to) {
+        byte[] bytes = new byte[to - from];
+        System.arraycopy(CONTENT, from, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * 주어진 바이트를 다 보낸 뒤 연결이 끊긴 것처럼 IOException을 던지는 스트림
+     */
+    private static final class DisconnectingStream extends InputStream {
+        private final ByteArrayInputStream delegate;
+
+        private DisconnectingStream(byte[] bytes) {
+            this.delegate = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b == -1) {
+                throw new IOException("Connection reset");
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read == -1) {
+                throw new IOException("Connection reset");
+            }
+            return read;
+        }
+    }
+
+    /**
+     * upload_session 테이블 대신 쓰는 메모리 구현 - 조회는 DB처럼 매번 새 객체를 돌려줌
+     */
+    private static final class InMemoryUploadSessionDao implements UploadSessionDao {
+        private final Map<String, UploadSessionDto> sessions = new ConcurrentHashMap<>();
+        private final AtomicInteger advanceCalls = new AtomicInteger();
+
+        private void put(UploadSessionDto session) {
+            sessions.put(session.getSessionId(), session);
+        }
+
+        private UploadSessionDto get(String sessionId) {
+            return sessions.get(sessionId);
+        }
+
+        @Override
+        public int createSession(UploadSessionDto session, long ttlSeconds) {
+            session.setStatus("open");
+            put(session);
+            return 1;
+        }
+
+        @Override
+        public UploadSessionDto getSession(String sessionId) {
+            UploadSessionDto s = sessions.get(sessionId);
+            if (s == null) {
+                return null;
+            }
+            return UploadSessionDto.builder()
+                    .sessionId(s.getSessionId())
+                    .wardId(s.getWardId())
+                    .fileName(s.getFileName())
+                    .totalBytes(s.getTotalBytes())
+                    .receivedBytes(s.getReceivedBytes())
+                    .status(s.getStatus())
+                    .recordId(s.getRecordId())
+                    .build();
+        }
+
+        @Override
+        public synchronized int advanceOffset(String sessionId, long expectedOffset, long receivedBytes, long ttlSeconds) {
+            advanceCalls.incrementAndGet();
+            UploadSessionDto s = sessions.get(sessionId);
+            if (s == null || !"open".equals(s.getStatus()) || s.getReceivedBytes() != expectedOffset) {
+                return 0;
+            }
+            s.setReceivedBytes(receivedBytes);
+            return 1;
+        }
+
+        @Override
+        public int markCompleted(String sessionId, Integer recordId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> selectExpiredSessionIds(int limit) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public int markExpired(List<String> sessionIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> selectOpenSessionIds(List<String> sessionIds) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
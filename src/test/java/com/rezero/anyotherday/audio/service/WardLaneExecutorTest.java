@@ -0,0 +1,162 @@
+package com.rezero.anyotherday.audio.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * WardLaneExecutor 검증 - 같은 ward는 제출 순서대로 하나씩, 다른 ward는 병렬, 빈 레인은 제거
+ */
+class WardLaneExecutorTest {
+
+    private ExecutorService pool;
+    private WardLaneExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        executor = new WardLaneExecutor(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void sameWardRunsInSubmissionOrderOneAtATime() throws InterruptedException {
+        int tasks = 200;
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            int n = i;
+            executor.execute(1, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(n);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, tasks).boxed().collect(Collectors.toList()), order);
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void differentWardsRunInParallel() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherWardDone = new CountDownLatch(1);
+
+        executor.execute(1, () -> await(release));
+        executor.execute(2, otherWardDone::countDown);
+
+        // ward 1이 막혀 있어도 ward 2는 실행됨
+        assertTrue(otherWardDone.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void queuedTasksWaitBehindRunningTaskOfSameWard() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        executor.execute(1, () -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(1, done::countDown);
+        executor.execute(1, done::countDown);
+
+        assertEquals(Map.of(1, 2), executor.getQueueDepths());
+        assertEquals(2, executor.getQueuedTaskCount());
+        assertEquals(1, executor.getActiveLaneCount());
+        assertEquals(2, done.getCount());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void drainedLaneIsRemoved() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(3);
+        for (int ward = 1; ward <= 3; ward++) {
+            executor.execute(ward, done::countDown);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        awaitCondition(() -> executor.getActiveLaneCount() == 0);
+        assertEquals(0, executor.getQueuedTaskCount());
+    }
+
+    @Test
+    void failingTaskDoesNotStopLane() throws InterruptedException {
+        CountDownLatch next = new CountDownLatch(1);
+
+        executor.execute(1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute(1, next::countDown);
+
+        assertTrue(next.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectedLaneStartLeavesNoLaneBehind() throws InterruptedException {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        WardLaneExecutor rejecting = new WardLaneExecutor(task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("full");
+            }
+            pool.execute(task);
+        });
+
+        assertThrows(RejectedExecutionException.class, () -> rejecting.execute(1, () -> { }));
+        assertEquals(0, rejecting.getActiveLaneCount());
+
+        // 거절된 뒤에도 같은 ward 레인을 다시 시작할 수 있음
+        reject.set(false);
+        CountDownLatch ran = new CountDownLatch(1);
+        rejecting.execute(1, ran::countDown);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCondition(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+}